@@ -22,12 +22,15 @@ import freemarker.template.Template;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.common.template.CachingTemplateEngine;
 import io.vertx.ext.web.common.template.CachedTemplate;
+import io.vertx.ext.web.common.template.TemplateOutputStream;
 import io.vertx.ext.web.templ.freemarker.FreeMarkerTemplateEngine;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Locale;
 import java.util.Map;
 
@@ -54,30 +57,44 @@ public class FreeMarkerTemplateEngineImpl extends CachingTemplateEngine<Template
 
   @Override
   public Future<Buffer> render(Map<String, Object> context, String templateFile) {
-    try {
-      // respect the locale if present
-      Locale locale = context.containsKey("lang") ?
-        Locale.forLanguageTag((String) context.get("lang")) :
-        Locale.getDefault();
-      String src = adjustLocation(templateFile);
-      String key = src + "_" + locale.toLanguageTag();
-      CachedTemplate<Template> template = getTemplate(key);
-      if (template == null) {
-        // real compile
-        synchronized (this) {
-          // Compile
-          template = new CachedTemplate<>(config.getTemplate(src, locale));
-        }
-        putTemplate(key, template);
-      }
-
-      try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-        template.template().process(context, new OutputStreamWriter(baos));
-        return Future.succeededFuture(Buffer.buffer(baos.toByteArray()));
-      }
+    try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+      process(context, templateFile, new OutputStreamWriter(baos));
+      return Future.succeededFuture(Buffer.buffer(baos.toByteArray()));
+    } catch (Exception ex) {
+      return Future.failedFuture(ex);
+    }
+  }
 
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFile, WriteStream<Buffer> stream) {
+    try {
+      TemplateOutputStream out = new TemplateOutputStream(stream);
+      Writer writer = new OutputStreamWriter(out);
+      process(context, templateFile, writer);
+      writer.flush();
+      return out.end();
     } catch (Exception ex) {
       return Future.failedFuture(ex);
     }
   }
+
+  private void process(Map<String, Object> context, String templateFile, Writer writer) throws Exception {
+    // respect the locale if present
+    Locale locale = context.containsKey("lang") ?
+      Locale.forLanguageTag((String) context.get("lang")) :
+      Locale.getDefault();
+    String src = adjustLocation(templateFile);
+    String key = src + "_" + locale.toLanguageTag();
+    CachedTemplate<Template> template = getTemplate(key);
+    if (template == null) {
+      // real compile
+      synchronized (this) {
+        // Compile
+        template = new CachedTemplate<>(config.getTemplate(src, locale));
+      }
+      putTemplate(key, template);
+    }
+
+    template.template().process(context, writer);
+  }
 }
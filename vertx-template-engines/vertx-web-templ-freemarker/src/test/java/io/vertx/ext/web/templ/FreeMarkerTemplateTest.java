@@ -16,11 +16,14 @@
 
 package io.vertx.ext.web.templ;
 
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.common.template.TemplateEngine;
 import io.vertx.ext.web.templ.freemarker.FreeMarkerTemplateEngine;
 import org.junit.jupiter.api.BeforeAll;
@@ -57,6 +60,47 @@ public class FreeMarkerTemplateTest {
     assertEquals("Hello badger and fox\nRequest path is /test-freemarker-template2.ftl\n", normalizeCRLF(render.toString()));
   }
 
+  @Test
+  public void testTemplateHandlerToStream() throws Exception {
+    TemplateEngine engine = FreeMarkerTemplateEngine.create(vertx);
+
+    final JsonObject context = new JsonObject()
+      .put("foo", "badger")
+      .put("bar", "fox");
+
+    context.put("context", new JsonObject().put("path", "/test-freemarker-template2.ftl"));
+
+    Buffer render = Buffer.buffer();
+    engine.render(context.getMap(), "somedir/test-freemarker-template2.ftl", new WriteStream<Buffer>() {
+      @Override
+      public Future<Void> write(Buffer data) {
+        render.appendBuffer(data);
+        return Future.succeededFuture();
+      }
+      @Override
+      public Future<Void> end() {
+        return Future.succeededFuture();
+      }
+      @Override
+      public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+      }
+      @Override
+      public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+        return this;
+      }
+      @Override
+      public boolean writeQueueFull() {
+        return false;
+      }
+      @Override
+      public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+        return this;
+      }
+    }).await();
+    assertEquals("Hello badger and fox\nRequest path is /test-freemarker-template2.ftl\n", normalizeCRLF(render.toString()));
+  }
+
   @Test
   public void testCachingEnabled() throws Exception {
     System.setProperty("vertxweb.environment", "production");
@@ -26,13 +26,18 @@ import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.common.template.CachingTemplateEngine;
 import io.vertx.ext.web.common.template.CachedTemplate;
+import io.vertx.ext.web.common.template.TemplateOutputStream;
 import io.vertx.ext.web.templ.handlebars.HandlebarsTemplateEngine;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -68,32 +73,49 @@ public class HandlebarsTemplateEngineImpl extends CachingTemplateEngine<Template
   @Override
   public Future<Buffer> render(Map<String, Object> context, String templateFile) {
     try {
-      String src = adjustLocation(templateFile);
-      CachedTemplate<Template> template = getTemplate(src);
-
-      if (template == null) {
-        // either it's not cache or cache is disabled
-        int idx = findLastFileSeparator(src);
-        String prefix = "";
-        String basename = src;
-        if (idx != -1) {
-          prefix = src.substring(0, idx);
-          basename = src.substring(idx + 1);
-        }
-        synchronized (this) {
-          loader.setPrefix(prefix);
-          template = new CachedTemplate<>(handlebars.compile(basename), prefix);
-        }
-        putTemplate(src, template);
-      }
+      Context engineContext = Context.newBuilder(context).resolver(resolvers).build();
+      return Future.succeededFuture(Buffer.buffer(template(templateFile).apply(engineContext)));
+    } catch (Exception ex) {
+      return Future.failedFuture(ex);
+    }
+  }
 
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFile, WriteStream<Buffer> stream) {
+    try {
       Context engineContext = Context.newBuilder(context).resolver(resolvers).build();
-      return Future.succeededFuture(Buffer.buffer(template.template().apply(engineContext)));
+      TemplateOutputStream out = new TemplateOutputStream(stream);
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      template(templateFile).apply(engineContext, writer);
+      writer.flush();
+      return out.end();
     } catch (Exception ex) {
       return Future.failedFuture(ex);
     }
   }
 
+  private Template template(String templateFile) throws IOException {
+    String src = adjustLocation(templateFile);
+    CachedTemplate<Template> template = getTemplate(src);
+
+    if (template == null) {
+      // either it's not cache or cache is disabled
+      int idx = findLastFileSeparator(src);
+      String prefix = "";
+      String basename = src;
+      if (idx != -1) {
+        prefix = src.substring(0, idx);
+        basename = src.substring(idx + 1);
+      }
+      synchronized (this) {
+        loader.setPrefix(prefix);
+        template = new CachedTemplate<>(handlebars.compile(basename), prefix);
+      }
+      putTemplate(src, template);
+    }
+    return template.template();
+  }
+
   private static int findLastFileSeparator(String src) {
     if (PlatformDependent.isWindows()) {
       return Math.max(src.lastIndexOf('/'), src.lastIndexOf('\\'));
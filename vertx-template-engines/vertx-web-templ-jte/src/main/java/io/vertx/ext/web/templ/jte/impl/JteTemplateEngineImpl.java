@@ -22,6 +22,8 @@ import gg.jte.output.Utf8ByteOutput;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.common.template.TemplateOutputStream;
 import io.vertx.ext.web.templ.jte.JteTemplateEngine;
 
 import java.util.Map;
@@ -72,6 +74,17 @@ public class JteTemplateEngineImpl implements JteTemplateEngine {
     }
   }
 
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFile, WriteStream<Buffer> stream) {
+    try {
+      TemplateOutputStream out = new TemplateOutputStream(stream);
+      templateEngine.render(templateFile, context, new OutputStreamOutput(out));
+      return out.end();
+    } catch (RuntimeException ex) {
+      return Future.failedFuture(ex);
+    }
+  }
+
   @Override
   public void clearCache() {
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.templ.jte.impl;
+
+import gg.jte.TemplateOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A jte output encoding the content as UTF-8 to an output stream, binary static content is written as is.
+ */
+public class OutputStreamOutput implements TemplateOutput {
+
+  private final OutputStream out;
+
+  public OutputStreamOutput(OutputStream out) {
+    this.out = out;
+  }
+
+  @Override
+  public void writeContent(String value) {
+    writeBinaryContent(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void writeContent(String value, int beginIndex, int endIndex) {
+    writeContent(value.substring(beginIndex, endIndex));
+  }
+
+  @Override
+  public void writeBinaryContent(byte[] value) {
+    try {
+      out.write(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
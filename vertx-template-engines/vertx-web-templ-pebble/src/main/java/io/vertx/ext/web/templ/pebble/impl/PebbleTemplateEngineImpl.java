@@ -21,11 +21,17 @@ import io.pebbletemplates.pebble.template.PebbleTemplate;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.common.template.CachingTemplateEngine;
 import io.vertx.ext.web.common.template.CachedTemplate;
+import io.vertx.ext.web.common.template.TemplateOutputStream;
 import io.vertx.ext.web.templ.pebble.PebbleTemplateEngine;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 
@@ -59,25 +65,42 @@ public class PebbleTemplateEngineImpl extends CachingTemplateEngine<PebbleTempla
   @Override
   public Future<Buffer> render(Map<String, Object> context, String templateFile) {
     try {
-      String src = adjustLocation(templateFile);
-      CachedTemplate<PebbleTemplate> template = getTemplate(src);
-      if (template == null) {
-        // real compile
-        synchronized (this) {
-          template = new CachedTemplate<>(pebbleEngine.getTemplate(adjustLocation(src)));
-        }
-        putTemplate(src, template);
-      }
-
-      // special key for lang selection
-      final String lang = (String) context.get("lang");
-      // rendering
       final StringWriter stringWriter = new StringWriter();
-      template.template().evaluate(stringWriter, context, lang == null ? Locale.getDefault() : Locale.forLanguageTag(lang));
+      evaluate(context, templateFile, stringWriter);
       return Future.succeededFuture(Buffer.buffer(stringWriter.toString()));
     } catch (final Exception ex) {
       return Future.failedFuture(ex);
     }
   }
 
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFile, WriteStream<Buffer> stream) {
+    try {
+      final TemplateOutputStream out = new TemplateOutputStream(stream);
+      final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      evaluate(context, templateFile, writer);
+      writer.flush();
+      return out.end();
+    } catch (final Exception ex) {
+      return Future.failedFuture(ex);
+    }
+  }
+
+  private void evaluate(Map<String, Object> context, String templateFile, Writer writer) throws IOException {
+    String src = adjustLocation(templateFile);
+    CachedTemplate<PebbleTemplate> template = getTemplate(src);
+    if (template == null) {
+      // real compile
+      synchronized (this) {
+        template = new CachedTemplate<>(pebbleEngine.getTemplate(adjustLocation(src)));
+      }
+      putTemplate(src, template);
+    }
+
+    // special key for lang selection
+    final String lang = (String) context.get("lang");
+    // rendering
+    template.template().evaluate(writer, context, lang == null ? Locale.getDefault() : Locale.forLanguageTag(lang));
+  }
+
 }
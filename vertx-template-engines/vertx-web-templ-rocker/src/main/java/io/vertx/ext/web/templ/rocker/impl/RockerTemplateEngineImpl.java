@@ -19,6 +19,8 @@ package io.vertx.ext.web.templ.rocker.impl;
 import com.fizzed.rocker.Rocker;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.common.template.TemplateOutputStream;
 import io.vertx.ext.web.templ.rocker.RockerTemplateEngine;
 
 import java.util.Map;
@@ -47,6 +49,19 @@ public class RockerTemplateEngineImpl implements RockerTemplateEngine {
     }
   }
 
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFile, WriteStream<Buffer> stream) {
+    try {
+      TemplateOutputStream out = new TemplateOutputStream(stream);
+      Rocker.template(adjustLocation(templateFile))
+        .relaxedBind(context)
+        .render((contentType, charsetName) -> new VertxStreamOutput(contentType, charsetName, out));
+      return out.end();
+    } catch (final RuntimeException ex) {
+      return Future.failedFuture(ex);
+    }
+  }
+
   @Override
   public void clearCache() {
     // No-Op
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.templ.rocker.impl;
+
+import com.fizzed.rocker.ContentType;
+import com.fizzed.rocker.runtime.AbstractRockerOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A rocker output writing the content to an output stream as it is rendered.
+ */
+public class VertxStreamOutput extends AbstractRockerOutput<VertxStreamOutput> {
+
+  private final OutputStream out;
+
+  public VertxStreamOutput(ContentType contentType, String charsetName, OutputStream out) {
+    super(contentType, charsetName, 0);
+    this.out = out;
+  }
+
+  @Override
+  public VertxStreamOutput w(String string) throws IOException {
+    return w(string.getBytes(charset));
+  }
+
+  @Override
+  public VertxStreamOutput w(byte[] bytes) throws IOException {
+    out.write(bytes);
+    byteLength += bytes.length;
+    return this;
+  }
+
+}
@@ -32,6 +32,32 @@ public interface RouteToEBServiceHandler extends Handler<RoutingContext> {
   @Fluent
   RouteToEBServiceHandler extraPayloadMapper(Function<RoutingContext, JsonObject> extraPayloadMapper);
 
+  /**
+   * When {@code binaryCodec} is enabled, the {@link ServiceRequest} and the {@link ServiceResponse} are sent on the
+   * event bus with a binary codec instead of as JSON, the response payload being carried as is. <br/>
+   *
+   * The codecs must be registered with {@link #registerCodecs(EventBus)} on every node running the services, which must
+   * be generated handlers of this version. The codecs are registered on the event bus of this handler. <br/>
+   *
+   * The body of the messages received by the services is then a {@link JsonObject} whose {@code context} value is the
+   * {@link ServiceRequest} itself rather than its JSON representation, so it cannot be copied or encoded as JSON, e.g.
+   * by an event bus interceptor. Such consumers must read the {@link ServiceRequest} or keep the JSON format.
+   *
+   * @param binaryCodec whether the binary codec is used
+   * @return
+   */
+  @Fluent
+  RouteToEBServiceHandler binaryCodec(boolean binaryCodec);
+
+  /**
+   * Register the binary codecs of {@link ServiceRequest} and {@link ServiceResponse}, see {@link #binaryCodec(boolean)}.
+   *
+   * @param eventBus Vert.x event bus instance
+   */
+  static void registerCodecs(EventBus eventBus) {
+    RouteToEBServiceHandlerImpl.registerCodecs(eventBus);
+  }
+
   /**
    * Build a new {@code RouteToEBServiceHandler}
    *
@@ -67,12 +67,14 @@ public class WebApiProxyHandlerGen extends ServiceProxyHandlerGen {
     writer
       .codeln(String.format("case \"%s\": {", m.getName()))
       .indent()
-      .stmt("JsonObject contextSerialized = json.getJsonObject(\"context\")")
+      .stmt("Object contextSerialized = json.getValue(\"context\")")
       .codeln("if (contextSerialized == null)")
       .indent()
       .stmt("throw new IllegalStateException(\"Received action \" + action + \" without ServiceRequest \\\"context\\\"\")")
       .unindent()
-      .stmt("ServiceRequest context = new ServiceRequest(contextSerialized)")
+      // the binary codec delivers the request itself, the response is then replied with the binary codec too
+      .stmt("boolean binary = contextSerialized instanceof ServiceRequest")
+      .stmt("ServiceRequest context = binary ? (ServiceRequest) contextSerialized : new ServiceRequest((JsonObject) contextSerialized)")
       .stmt("JsonObject params = context.getParams()")
       .codeln("try {")
       .indent()
@@ -22,6 +22,7 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
   private final String address;
   private final DeliveryOptions deliveryOptions;
   private Function<RoutingContext, JsonObject> extraPayloadMapper;
+  private boolean binaryCodec;
 
   public RouteToEBServiceHandlerImpl(EventBus eventBus, String address, DeliveryOptions deliveryOptions) {
     this.eventBus = eventBus;
@@ -46,9 +47,12 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
       deliveryOptions = this.deliveryOptions;
     }
 
-    eventBus.<JsonObject>request(address, buildPayload(routingContext), deliveryOptions).onComplete(res -> {
+    Object payload = binaryCodec ? buildRequest(routingContext) : buildPayload(routingContext);
+    eventBus.request(address, payload, deliveryOptions).onComplete(res -> {
       if (res.succeeded()) {
-        ServiceResponse op = new ServiceResponse(res.result().body());
+        Object body = res.result().body();
+        // the services reply with the binary codec to the requests sent with it
+        ServiceResponse op = body instanceof ServiceResponse ? (ServiceResponse) body : new ServiceResponse((JsonObject) body);
         HttpServerResponse response = routingContext.response().setStatusCode(op.getStatusCode());
         if (op.getStatusMessage() != null)
           response.setStatusMessage(op.getStatusMessage());
@@ -71,15 +75,45 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
     return this;
   }
 
+  @Override
+  @Fluent
+  public RouteToEBServiceHandlerImpl binaryCodec(boolean binaryCodec) {
+    if (binaryCodec) {
+      registerCodecs(eventBus);
+    }
+    this.binaryCodec = binaryCodec;
+    return this;
+  }
+
+  public static void registerCodecs(EventBus eventBus) {
+    synchronized (eventBus) {
+      // either codec may already be registered on its own, the other one must still be registered
+      try {
+        eventBus.registerDefaultCodec(ServiceRequest.class, new ServiceRequestCodec());
+      } catch (IllegalStateException ignore) {
+        // already registered
+      }
+      try {
+        eventBus.registerDefaultCodec(ServiceResponse.class, new ServiceResponseCodec());
+      } catch (IllegalStateException ignore) {
+        // already registered
+      }
+    }
+  }
+
   private JsonObject buildPayload(RoutingContext context) {
+    return new JsonObject().put("context", buildRequest(context).toJson());
+  }
+
+  private ServiceRequest buildRequest(RoutingContext context) {
     JsonObject params = context.get("parsedParameters") != null ? ((RequestParameters)context.get("parsedParameters")).toJson() : null;
     User user = context.user();
-    return new JsonObject().put("context", new ServiceRequest(
+    return new ServiceRequest(
       params,
       context.request().headers(),
       (user != null) ? user.principal() : null,
       (this.extraPayloadMapper != null) ? this.extraPayloadMapper.apply(context) : null
-    ).toJson());
+    );
   }
 
 }
@@ -0,0 +1,63 @@
+package io.vertx.ext.web.api.service.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.api.service.ServiceRequest;
+
+/**
+ * Binary event bus codec of the {@link ServiceRequest} sent by the {@link RouteToEBServiceHandlerImpl}.
+ * <p>
+ * The request is received in the {@code context} field of a {@link JsonObject}, like with the JSON encoding, except
+ * the field holds the {@link ServiceRequest} itself, which the generated service handlers use as is. The body is therefore
+ * not a JSON value, {@code copy()} and {@code encode()} fail on it.
+ */
+public class ServiceRequestCodec implements MessageCodec<ServiceRequest, JsonObject> {
+
+  public static final String NAME = "web-api-service-request";
+
+  @Override
+  public void encodeToWire(Buffer buffer, ServiceRequest request) {
+    final int start = buffer.length();
+    buffer.appendInt(0);
+    WireFormat.writeValue(buffer, request.getParams());
+    WireFormat.writeHeaders(buffer, request.getHeaders());
+    WireFormat.writeValue(buffer, request.getUser());
+    WireFormat.writeValue(buffer, request.getExtra());
+    buffer.setInt(start, buffer.length() - start - 4);
+  }
+
+  @Override
+  public JsonObject decodeFromWire(int pos, Buffer buffer) {
+    final WireFormat.Reader reader = new WireFormat.Reader(buffer, pos + 4);
+    final JsonObject params = reader.readObject();
+    final MultiMap headers = reader.readHeaders();
+    final JsonObject user = reader.readObject();
+    final JsonObject extra = reader.readObject();
+    return envelope(new ServiceRequest(params, headers, user, extra));
+  }
+
+  @Override
+  public JsonObject transform(ServiceRequest request) {
+    // the parameters are built for each request, the other fields may be shared with the routing context
+    final MultiMap headers = request.getHeaders() == null ? null : MultiMap.caseInsensitiveMultiMap().addAll(request.getHeaders());
+    final JsonObject user = request.getUser() == null ? null : request.getUser().copy();
+    final JsonObject extra = request.getExtra() == null ? null : request.getExtra().copy();
+    return envelope(new ServiceRequest(request.getParams(), headers, user, extra));
+  }
+
+  private static JsonObject envelope(ServiceRequest request) {
+    return new JsonObject().put("context", request);
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
@@ -0,0 +1,51 @@
+package io.vertx.ext.web.api.service.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.ext.web.api.service.ServiceResponse;
+
+/**
+ * Binary event bus codec of the {@link ServiceResponse} replied by the generated service handlers, the payload is
+ * carried as is.
+ */
+public class ServiceResponseCodec implements MessageCodec<ServiceResponse, ServiceResponse> {
+
+  public static final String NAME = "web-api-service-response";
+
+  @Override
+  public void encodeToWire(Buffer buffer, ServiceResponse response) {
+    final int start = buffer.length();
+    buffer.appendInt(0);
+    WireFormat.writeValue(buffer, response.getStatusCode());
+    WireFormat.writeString(buffer, response.getStatusMessage());
+    WireFormat.writeHeaders(buffer, response.getHeaders());
+    WireFormat.writeBuffer(buffer, response.getPayload());
+    buffer.setInt(start, buffer.length() - start - 4);
+  }
+
+  @Override
+  public ServiceResponse decodeFromWire(int pos, Buffer buffer) {
+    final WireFormat.Reader reader = new WireFormat.Reader(buffer, pos + 4);
+    final Integer statusCode = (Integer) reader.readValue();
+    final String statusMessage = reader.readString();
+    final MultiMap headers = reader.readHeaders();
+    final Buffer payload = reader.readBuffer();
+    return new ServiceResponse(statusCode, statusMessage, payload, headers);
+  }
+
+  @Override
+  public ServiceResponse transform(ServiceResponse response) {
+    return response;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
@@ -0,0 +1,219 @@
+package io.vertx.ext.web.api.service.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binary format of the service requests and responses on the event bus.
+ * <p>
+ * JSON values are written with a type tag instead of as JSON text, so they are neither formatted nor parsed. The
+ * values without a JSON type of their own, e.g. big numbers or instants, are written as JSON text so they are decoded
+ * as with the JSON codec.
+ */
+final class WireFormat {
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte TRUE = 2;
+  private static final byte FALSE = 3;
+  private static final byte INT = 4;
+  private static final byte LONG = 5;
+  private static final byte FLOAT = 6;
+  private static final byte DOUBLE = 7;
+  private static final byte OBJECT = 8;
+  private static final byte ARRAY = 9;
+  private static final byte JSON = 10;
+
+  private WireFormat() {
+  }
+
+  static void writeString(Buffer buffer, String s) {
+    if (s == null) {
+      buffer.appendInt(-1);
+    } else {
+      final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+  }
+
+  static void writeBuffer(Buffer buffer, Buffer b) {
+    if (b == null) {
+      buffer.appendInt(-1);
+    } else {
+      buffer.appendInt(b.length()).appendBuffer(b);
+    }
+  }
+
+  static void writeHeaders(Buffer buffer, MultiMap headers) {
+    if (headers == null) {
+      buffer.appendInt(-1);
+      return;
+    }
+    // the size of a multimap is its number of names, a repeated header is an entry per value
+    final List<Map.Entry<String, String>> entries = headers.entries();
+    buffer.appendInt(entries.size());
+    for (Map.Entry<String, String> header : entries) {
+      writeString(buffer, header.getKey());
+      writeString(buffer, header.getValue());
+    }
+  }
+
+  static void writeValue(Buffer buffer, Object value) {
+    if (value == null) {
+      buffer.appendByte(NULL);
+    } else if (value instanceof CharSequence) {
+      buffer.appendByte(STRING);
+      writeString(buffer, value.toString());
+    } else if (value instanceof Boolean) {
+      buffer.appendByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      buffer.appendByte(INT).appendInt(((Number) value).intValue());
+    } else if (value instanceof Long) {
+      buffer.appendByte(LONG).appendLong((Long) value);
+    } else if (value instanceof Float) {
+      buffer.appendByte(FLOAT).appendFloat((Float) value);
+    } else if (value instanceof Double) {
+      buffer.appendByte(DOUBLE).appendDouble((Double) value);
+    } else if (value instanceof JsonObject) {
+      writeObject(buffer, ((JsonObject) value).getMap());
+    } else if (value instanceof Map) {
+      writeObject(buffer, (Map<?, ?>) value);
+    } else if (value instanceof JsonArray) {
+      writeArray(buffer, ((JsonArray) value).getList());
+    } else if (value instanceof List) {
+      writeArray(buffer, (List<?>) value);
+    } else {
+      buffer.appendByte(JSON);
+      writeBuffer(buffer, Json.encodeToBuffer(value));
+    }
+  }
+
+  private static void writeObject(Buffer buffer, Map<?, ?> map) {
+    buffer.appendByte(OBJECT).appendInt(map.size());
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      writeString(buffer, String.valueOf(entry.getKey()));
+      writeValue(buffer, entry.getValue());
+    }
+  }
+
+  private static void writeArray(Buffer buffer, List<?> list) {
+    buffer.appendByte(ARRAY).appendInt(list.size());
+    for (Object item : list) {
+      writeValue(buffer, item);
+    }
+  }
+
+  /**
+   * Reads the values written in a buffer, from a position.
+   */
+  static final class Reader {
+
+    private final Buffer buffer;
+    private int pos;
+
+    Reader(Buffer buffer, int pos) {
+      this.buffer = buffer;
+      this.pos = pos;
+    }
+
+    int readInt() {
+      final int i = buffer.getInt(pos);
+      pos += 4;
+      return i;
+    }
+
+    String readString() {
+      final int length = readInt();
+      if (length == -1) {
+        return null;
+      }
+      final String s = buffer.getString(pos, pos + length, "UTF-8");
+      pos += length;
+      return s;
+    }
+
+    Buffer readBuffer() {
+      final int length = readInt();
+      if (length == -1) {
+        return null;
+      }
+      final Buffer b = buffer.getBuffer(pos, pos + length);
+      pos += length;
+      return b;
+    }
+
+    MultiMap readHeaders() {
+      final int size = readInt();
+      if (size == -1) {
+        return null;
+      }
+      final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+      for (int i = 0; i < size; i++) {
+        headers.add(readString(), readString());
+      }
+      return headers;
+    }
+
+    Object readValue() {
+      final byte type = buffer.getByte(pos++);
+      switch (type) {
+        case NULL:
+          return null;
+        case STRING:
+          return readString();
+        case TRUE:
+          return Boolean.TRUE;
+        case FALSE:
+          return Boolean.FALSE;
+        case INT:
+          return readInt();
+        case LONG: {
+          final long l = buffer.getLong(pos);
+          pos += 8;
+          return l;
+        }
+        case FLOAT: {
+          final float f = buffer.getFloat(pos);
+          pos += 4;
+          return f;
+        }
+        case DOUBLE: {
+          final double d = buffer.getDouble(pos);
+          pos += 8;
+          return d;
+        }
+        case OBJECT: {
+          final int size = readInt();
+          final JsonObject object = new JsonObject();
+          for (int i = 0; i < size; i++) {
+            object.put(readString(), readValue());
+          }
+          return object;
+        }
+        case ARRAY: {
+          final int size = readInt();
+          final JsonArray array = new JsonArray();
+          for (int i = 0; i < size; i++) {
+            array.add(readValue());
+          }
+          return array;
+        }
+        case JSON:
+          return Json.decodeValue(readBuffer());
+        default:
+          throw new IllegalStateException("Invalid value type " + type);
+      }
+    }
+
+    JsonObject readObject() {
+      return (JsonObject) readValue();
+    }
+  }
+}
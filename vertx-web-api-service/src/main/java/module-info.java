@@ -15,6 +15,7 @@ module io.vertx.web.apiservice {
 
   exports io.vertx.ext.web.api.service;
   exports io.vertx.ext.web.api.service.generator.model to io.vertx.web.apiservice.tests;
+  exports io.vertx.ext.web.api.service.impl to io.vertx.web.apiservice.tests;
 
   provides io.vertx.codegen.processor.GeneratorLoader with io.vertx.ext.web.api.service.generator.WebApiProxyGenLoader;
 
@@ -1,5 +1,6 @@
 package io.vertx.ext.web.api.service.tests;
 
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageConsumer;
@@ -10,6 +11,10 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.web.api.service.RouteToEBServiceHandler;
+import io.vertx.ext.web.api.service.ServiceRequest;
+import io.vertx.ext.web.api.service.ServiceResponse;
+import io.vertx.ext.web.api.service.impl.ServiceRequestCodec;
+import io.vertx.ext.web.api.service.impl.ServiceResponseCodec;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.impl.UserContextInternal;
 import io.vertx.ext.web.validation.tests.BaseValidationHandlerTest;
@@ -28,6 +33,7 @@ import java.nio.file.Paths;
 import java.util.concurrent.CountDownLatch;
 
 import static io.vertx.ext.web.validation.builder.Bodies.json;
+import static org.junit.jupiter.api.Assertions.*;
 import static io.vertx.ext.web.validation.builder.Parameters.param;
 import static io.vertx.ext.web.validation.tests.testutils.TestRequest.bodyResponse;
 import static io.vertx.ext.web.validation.tests.testutils.TestRequest.emptyResponse;
@@ -314,4 +320,87 @@ public class RouteToEBServiceHandlerTest extends BaseValidationHandlerTest {
       .expect(jsonBodyResponse(new JsonObject().put("result", "Basic QWxhZGRpbjpvcGVuIHNlc2FtZQ==")))
       .send(checkpoint);
   }
+
+  @Test
+  public void binaryCodecTest(Vertx vertx, Checkpoint checkpoint) {
+    CountDownLatch latch = checkpoint.asLatch(2);
+
+    AnotherTestService service = new AnotherTestServiceImpl(vertx);
+    consumer = new ServiceBinder(vertx).setAddress("someAddress").register(AnotherTestService.class, service);
+    BinaryTestService binaryService = new BinaryTestServiceImpl();
+    MessageConsumer<JsonObject> binaryConsumer = new ServiceBinder(vertx).setAddress("binaryAddress").register(BinaryTestService.class, binaryService);
+
+    router
+      .post("/testE/:id")
+      .handler(BodyHandler.create())
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo)
+          .pathParameter(param("id", intSchema()))
+          .body(json(objectSchema().property("value", intSchema())))
+          .build()
+      ).handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "someAddress", "testE").binaryCodec(true)
+      );
+
+    router
+      .get("/test")
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo).build()
+      ).handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "binaryAddress", "binaryTest").binaryCodec(true)
+      );
+
+    testRequest(client, HttpMethod.POST, "/testE/123")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(jsonBodyResponse(new JsonObject().put("id", 123).put("value", 1)))
+      .sendJson(new JsonObject().put("value", 1), latch::countDown);
+
+    testRequest(client, HttpMethod.GET, "/test")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(bodyResponse(Buffer.buffer(new byte[]{(byte) 0xb0}), "application/octet-stream"))
+      .send(() -> {
+        binaryConsumer.unregister();
+        latch.countDown();
+      });
+  }
+
+  @Test
+  public void binaryCodecWireTest() {
+    JsonObject params = new JsonObject()
+      .put("path", new JsonObject().put("id", 123))
+      .put("query", new JsonObject().put("flag", true).put("ratio", 0.5).put("big", Long.MAX_VALUE))
+      .put("body", new JsonArray().add("a").addNull().add(new JsonObject().put("nested", new JsonArray().add(1))));
+    // a repeated header is written as an entry per value
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+      .add("Accept", "text/plain")
+      .add("Accept", "application/json")
+      .add("X-Forwarded-For", "10.0.0.1")
+      .add("X-Forwarded-For", "10.0.0.2")
+      .add("X-Forwarded-For", "10.0.0.3");
+    ServiceRequest request = new ServiceRequest(params, headers, new JsonObject().put("sub", "alice"), new JsonObject().put("tenant", "acme"));
+
+    ServiceRequestCodec requestCodec = new ServiceRequestCodec();
+    Buffer wire = Buffer.buffer("prefix");
+    requestCodec.encodeToWire(wire, request);
+    ServiceRequest decoded = (ServiceRequest) requestCodec.decodeFromWire(6, wire).getValue("context");
+    assertEquals(params, decoded.getParams());
+    assertEquals(headers.getAll("accept"), decoded.getHeaders().getAll("accept"));
+    assertEquals(headers.getAll("x-forwarded-for"), decoded.getHeaders().getAll("x-forwarded-for"));
+    assertEquals(5, decoded.getHeaders().entries().size());
+    assertEquals("alice", decoded.getUser().getString("sub"));
+    assertEquals("acme", decoded.getExtra().getString("tenant"));
+
+    Buffer payload = Buffer.buffer(new byte[]{0, (byte) 0xb0, 1});
+    ServiceResponse response = new ServiceResponse(201, "Created", payload, MultiMap.caseInsensitiveMultiMap().add("content-type", "application/octet-stream"));
+    ServiceResponseCodec responseCodec = new ServiceResponseCodec();
+    wire = Buffer.buffer();
+    responseCodec.encodeToWire(wire, response);
+    ServiceResponse decodedResponse = responseCodec.decodeFromWire(0, wire);
+    assertEquals(201, decodedResponse.getStatusCode());
+    assertEquals("Created", decodedResponse.getStatusMessage());
+    assertEquals(payload, decodedResponse.getPayload());
+    assertEquals("application/octet-stream", decodedResponse.getHeaders().get("Content-Type"));
+    // the payload is not copied on local delivery
+    assertSame(payload, responseCodec.transform(response).getPayload());
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.benchmarks;
+
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. All the JMH command line options are accepted, plus a baseline mode to compare
+ * results between commits:
+ *
+ * <ul>
+ *   <li>{@code --baseline <file>}: stores the scores of the run in the given file</li>
+ *   <li>{@code --compare <file>}: compares the scores of the run with the ones stored in the given file</li>
+ *   <li>{@code --threshold <percent>}: the accepted regression when comparing, defaults to {@code 5}</li>
+ * </ul>
+ *
+ * When comparing, the process exits with status {@code 1} if any benchmark regressed above the threshold.
+ * <pre>
+ * git checkout master &amp;&amp; java -jar target/benchmarks.jar RouterBenchmark --baseline /tmp/router.json
+ * git checkout topic &amp;&amp; java -jar target/benchmarks.jar RouterBenchmark --compare /tmp/router.json
+ * </pre>
+ */
+public class BenchmarkMain {
+
+  public static void main(String[] args) throws Exception {
+    String baseline = null;
+    String compare = null;
+    double threshold = 5;
+
+    final List<String> jmhArgs = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--baseline":
+          baseline = args[++i];
+          break;
+        case "--compare":
+          compare = args[++i];
+          break;
+        case "--threshold":
+          threshold = Double.parseDouble(args[++i]);
+          break;
+        default:
+          jmhArgs.add(args[i]);
+      }
+    }
+
+    final CommandLineOptions options = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+    if (options.shouldHelp()) {
+      options.showHelp();
+      return;
+    }
+    if (options.shouldList()) {
+      new Runner(options).list();
+      return;
+    }
+
+    final JsonObject scores = scores(new Runner(options).run());
+
+    if (baseline != null) {
+      Files.write(Paths.get(baseline), scores.encodePrettily().getBytes(StandardCharsets.UTF_8));
+    }
+
+    if (compare != null) {
+      final JsonObject previous = new JsonObject(new String(Files.readAllBytes(Paths.get(compare)), StandardCharsets.UTF_8));
+      if (!compare(previous, scores, threshold)) {
+        System.exit(1);
+      }
+    }
+  }
+
+  private static JsonObject scores(Collection<RunResult> results) {
+    final JsonObject scores = new JsonObject();
+    for (RunResult result : results) {
+      final BenchmarkParams params = result.getParams();
+      final Result<?> primary = result.getPrimaryResult();
+
+      scores.put(key(params), new JsonObject()
+        .put("mode", params.getMode().shortLabel())
+        .put("score", primary.getScore())
+        .put("error", primary.getScoreError())
+        .put("unit", primary.getScoreUnit()));
+    }
+    return scores;
+  }
+
+  private static String key(BenchmarkParams params) {
+    final StringBuilder key = new StringBuilder(params.getBenchmark());
+    for (String param : params.getParamsKeys()) {
+      key.append(':').append(param).append('=').append(params.getParam(param));
+    }
+    return key.toString();
+  }
+
+  private static boolean compare(JsonObject baseline, JsonObject current, double threshold) {
+    boolean ok = true;
+
+    System.out.println();
+    System.out.printf("%-90s %15s %15s %10s%n", "Benchmark", "Baseline", "Current", "Change");
+
+    for (String key : current.fieldNames()) {
+      final JsonObject now = current.getJsonObject(key);
+      final JsonObject before = baseline.getJsonObject(key);
+      if (before == null) {
+        System.out.printf("%-90s %15s %15.3f %10s%n", key, "-", now.getDouble("score"), "new");
+        continue;
+      }
+
+      final double base = before.getDouble("score");
+      final double score = now.getDouble("score");
+      double change = base == 0 ? 0 : (score - base) * 100 / base;
+      // for throughput a higher score is better, for all the time based modes a lower score is better
+      if (!Mode.Throughput.shortLabel().equals(now.getString("mode"))) {
+        change = -change;
+      }
+
+      final boolean regressed = change < -threshold;
+      if (regressed) {
+        ok = false;
+      }
+      System.out.printf("%-90s %15.3f %15.3f %9.2f%%%s%n", key, base, score, change, regressed ? " REGRESSION" : "");
+    }
+
+    return ok;
+  }
+}
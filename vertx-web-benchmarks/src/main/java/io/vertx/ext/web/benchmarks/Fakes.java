@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+import io.vertx.core.net.HostAndPort;
+import org.mockito.Answers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Fake server requests, so the benchmarks measure the web layer without any network involved.
+ * <p>
+ * The fakes are stub only mocks, which do not record invocations.
+ */
+public final class Fakes {
+
+  private Fakes() {
+  }
+
+  public static HttpServerRequestInternal request(HttpMethod method, String path) {
+    return request(method, path, MultiMap.caseInsensitiveMultiMap());
+  }
+
+  public static HttpServerRequestInternal request(HttpMethod method, String path, MultiMap headers) {
+    final HttpServerRequestInternal request = mock(HttpServerRequestInternal.class, withSettings().stubOnly());
+    final HttpServerResponse response = mock(HttpServerResponse.class, withSettings().stubOnly().defaultAnswer(Answers.RETURNS_SELF));
+
+    when(request.method()).thenReturn(method);
+    when(request.path()).thenReturn(path);
+    when(request.uri()).thenReturn(path);
+    when(request.version()).thenReturn(HttpVersion.HTTP_1_1);
+    when(request.isValidAuthority()).thenReturn(true);
+    when(request.authority()).thenReturn(HostAndPort.create("localhost", 8080));
+    when(request.headers()).thenReturn(headers);
+    when(request.getHeader(anyString())).thenAnswer(invocation -> headers.get((String) invocation.getArgument(0)));
+    when(request.getHeader(any(CharSequence.class))).thenAnswer(invocation -> headers.get((CharSequence) invocation.getArgument(0)));
+    // path params are added to the request params, use a fresh map per call so invocations do not accumulate state
+    when(request.params()).thenAnswer(invocation -> MultiMap.caseInsensitiveMultiMap());
+    when(request.response()).thenReturn(response);
+
+    return request;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.client.impl.cache;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.impl.HttpResponseImpl;
+import io.vertx.ext.web.client.spi.CacheStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lookup done by the {@link CacheInterceptor} for every cacheable request: key creation, store lookup and
+ * freshness check of the cached response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheLookupBenchmark {
+
+  @Param({"100", "10000"})
+  public int entries;
+
+  private CacheStore store;
+  private Vary vary;
+  private RequestOptions hit;
+  private RequestOptions miss;
+
+  @Setup
+  public void setup() {
+    store = new LocalCacheStore();
+
+    final MultiMap requestHeaders = MultiMap.caseInsensitiveMultiMap()
+      .add(HttpHeaders.ACCEPT, "application/json");
+    final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap()
+      .add(HttpHeaders.CACHE_CONTROL, "public, max-age=3600")
+      .add(HttpHeaders.VARY, "Accept");
+    vary = new Vary(requestHeaders, responseHeaders);
+
+    final Buffer body = Buffer.buffer("{\"id\":1,\"name\":\"item\"}");
+    for (int i = 0; i < entries; i++) {
+      final HttpResponse<Buffer> response = new HttpResponseImpl<>(HttpVersion.HTTP_1_1, 200, "OK", responseHeaders,
+        MultiMap.caseInsensitiveMultiMap(), Collections.emptyList(), body, Collections.emptyList());
+      store.set(new CacheKey(request(i), vary), CachedHttpResponse.wrap(response));
+    }
+
+    hit = request(entries / 2);
+    miss = request(entries + 1);
+  }
+
+  private static RequestOptions request(int i) {
+    return new RequestOptions()
+      .setMethod(HttpMethod.GET)
+      .setHost("api.example.com")
+      .setPort(443)
+      .setURI("/items/" + i + "?expand=details&lang=en")
+      .putHeader(HttpHeaders.ACCEPT, "application/json");
+  }
+
+  private Object lookup(RequestOptions request) {
+    final CachedHttpResponse cached = store.get(new CacheKey(request, vary)).result();
+    if (cached == null) {
+      return null;
+    }
+    return cached.isFresh() ? cached.rehydrate() : cached;
+  }
+
+  @Benchmark
+  public Object hit() {
+    return lookup(hit);
+  }
+
+  @Benchmark
+  public Object miss() {
+    return lookup(miss);
+  }
+}
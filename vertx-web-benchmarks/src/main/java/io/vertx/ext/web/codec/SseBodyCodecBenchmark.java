@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.codec.spi.BodyStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams 1M events through {@link BodyCodec#sseStream}, the body being received in chunks of various sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SseBodyCodecBenchmark {
+
+  private static final int EVENTS = 1_000_000;
+
+  @Param({"512", "65536"})
+  public int chunkSize;
+
+  private Buffer[] chunks;
+
+  @Setup
+  public void setup() {
+    Buffer body = Buffer.buffer();
+    for (int i = 0; i < EVENTS; i++) {
+      body.appendString("id: ").appendString(Integer.toString(i))
+        .appendString("\nevent: tick\ndata: {\"seq\":").appendString(Integer.toString(i))
+        .appendString(",\"payload\":\"lorem ipsum dolor sit amet\"}\n\n");
+    }
+    int count = (body.length() + chunkSize - 1) / chunkSize;
+    chunks = new Buffer[count];
+    for (int i = 0; i < count; i++) {
+      chunks[i] = body.getBuffer(i * chunkSize, Math.min(body.length(), (i + 1) * chunkSize));
+    }
+  }
+
+  @Benchmark
+  public void stream(Blackhole blackhole) throws Exception {
+    BodyStream<Void> stream = BodyCodec.sseStream(events -> events.handler(blackhole::consume)).stream();
+    for (Buffer chunk : chunks) {
+      stream.write(chunk);
+    }
+    stream.end();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.http.HttpServerRequestInternal;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.ext.web.impl.RoutingContextInternal;
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Buffering of a request body by the {@link BodyHandler}, the request chunks are fed directly to the handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyHandlerBenchmark {
+
+  @Param({"1024", "16384"})
+  public int chunkSize;
+
+  @Param({"1", "64"})
+  public int chunks;
+
+  @Param({"true", "false"})
+  public boolean preallocate;
+
+  private BodyHandler handler;
+  private RoutingContextInternal context;
+  private Buffer chunk;
+  private Handler<Buffer> dataHandler;
+  private Handler<Void> endHandler;
+
+  @Setup
+  public void setup() {
+    handler = BodyHandler.create(false).setPreallocateBodyBuffer(preallocate);
+    chunk = Buffer.buffer(new byte[chunkSize]);
+
+    final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+      .add(HttpHeaders.CONTENT_TYPE, "application/json")
+      .add(HttpHeaders.CONTENT_LENGTH, Integer.toString(chunkSize * chunks));
+
+    final HttpServerRequestInternal request = mock(HttpServerRequestInternal.class, withSettings().stubOnly().defaultAnswer(Answers.RETURNS_SELF));
+    when(request.headers()).thenReturn(headers);
+    when(request.getHeader(anyString())).thenAnswer(invocation -> headers.get((String) invocation.getArgument(0)));
+    when(request.getHeader(any(CharSequence.class))).thenAnswer(invocation -> headers.get((CharSequence) invocation.getArgument(0)));
+    when(request.isEnded()).thenReturn(false);
+    when(request.handler(any())).thenAnswer(invocation -> {
+      dataHandler = invocation.getArgument(0);
+      return request;
+    });
+    when(request.endHandler(any())).thenAnswer(invocation -> {
+      endHandler = invocation.getArgument(0);
+      return request;
+    });
+
+    context = mock(RoutingContextInternal.class, withSettings().stubOnly());
+    when(context.request()).thenReturn(request);
+    when(context.response()).thenReturn(mock(HttpServerResponse.class, withSettings().stubOnly()));
+  }
+
+  @Benchmark
+  public void buffer() {
+    handler.handle(context);
+    for (int i = 0; i < chunks; i++) {
+      dataHandler.handle(chunk);
+    }
+    endHandler.handle(null);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.sockjs.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of SockJS frames, which escapes far more characters than plain JSON.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+  @Param({"1", "16"})
+  public int messages;
+
+  @Param({"ascii", "unicode"})
+  public String content;
+
+  private String[] frames;
+
+  @Setup
+  public void setup() {
+    final String message;
+    if ("ascii".equals(content)) {
+      message = "{\"type\":\"publish\",\"address\":\"news.feed\",\"body\":{\"title\":\"Hello\\nWorld\",\"id\":1234}}";
+    } else {
+      message = "{\"type\":\"publish\",\"address\":\"news.feed\",\"body\":{\"title\":\"Olá 世界 ☃\",\"id\":1234}}";
+    }
+    frames = new String[messages];
+    Arrays.fill(frames, message);
+  }
+
+  @Benchmark
+  public String encode() {
+    return JsonCodec.encode(frames);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import io.vertx.ext.web.MIMEHeader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and negotiation of the {@code Accept} header, as done for routes declaring {@code produces}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcceptNegotiationBenchmark {
+
+  @Param({
+    "application/json",
+    "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8"
+  })
+  public String accept;
+
+  private List<MIMEHeader> parsed;
+  private ParsableHeaderValuesContainer container;
+  private Collection<MIMEHeader> produces;
+
+  @Setup
+  public void setup() {
+    parsed = parse(accept);
+    container = new ParsableHeaderValuesContainer(parsed, null, null, null, new ParsableMIMEValue(""));
+    produces = Arrays.asList(
+      new ParsableMIMEValue("text/plain").forceParse(),
+      new ParsableMIMEValue("application/xml").forceParse(),
+      new ParsableMIMEValue("application/json").forceParse());
+  }
+
+  private static List<MIMEHeader> parse(String accept) {
+    return HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(accept, ParsableMIMEValue::new));
+  }
+
+  @Benchmark
+  public List<MIMEHeader> parseAndSort() {
+    return parse(accept);
+  }
+
+  @Benchmark
+  public MIMEHeader negotiate() {
+    return container.findBestUserAcceptedIn(parsed, produces);
+  }
+
+  @Benchmark
+  public MIMEHeader parseAndNegotiate() {
+    return container.findBestUserAcceptedIn(parse(accept), produces);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of the static handler file properties cache from many event loops at once, comparing the synchronized
+ * {@link LRUCache} with the {@link ConcurrentLRUCache} it has been replaced with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class PropsCacheContentionBenchmark {
+
+  private static final int FILES = 1024;
+
+  @Param({"10000", "512"})
+  public int maxSize;
+
+  private String[] paths;
+  private Map<String, Object> synchronizedCache;
+  private ConcurrentLRUCache<String, Object> concurrentCache;
+
+  @Setup
+  public void setup() {
+    paths = new String[FILES];
+    synchronizedCache = Collections.synchronizedMap(new LRUCache<>(16, 0.75f, true, maxSize));
+    concurrentCache = new ConcurrentLRUCache<>(maxSize);
+    for (int i = 0; i < FILES; i++) {
+      paths[i] = "webroot/assets/chunk-" + i + ".js";
+      synchronizedCache.put(paths[i], paths[i]);
+      concurrentCache.put(paths[i], paths[i]);
+    }
+  }
+
+  private String path() {
+    return paths[ThreadLocalRandom.current().nextInt(FILES)];
+  }
+
+  @Benchmark
+  public Object synchronizedLRU() {
+    String path = path();
+    Object value = synchronizedCache.get(path);
+    if (value == null) {
+      synchronizedCache.put(path, path);
+    }
+    return value;
+  }
+
+  @Benchmark
+  public Object concurrentLRU() {
+    String path = path();
+    Object value = concurrentCache.get(path);
+    if (value == null) {
+      concurrentCache.put(path, path);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.benchmarks.Fakes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RouteState#matches} for the different kinds of route paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteMatchBenchmark {
+
+  @Param({"exact", "wildcard", "param", "regex"})
+  public String kind;
+
+  private Vertx vertx;
+  private RouterImpl router;
+  private RouteState state;
+  private HttpServerRequest request;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    router = (RouterImpl) Router.router(vertx);
+
+    final Route route;
+    final String path;
+    switch (kind) {
+      case "exact":
+        route = router.get("/api/v1/users");
+        path = "/api/v1/users";
+        break;
+      case "wildcard":
+        route = router.get("/api/v1/*");
+        path = "/api/v1/users";
+        break;
+      case "param":
+        route = router.get("/api/v1/users/:id/orders/:orderId");
+        path = "/api/v1/users/123/orders/456";
+        break;
+      case "regex":
+        route = router.getWithRegex("/api/v1/users/(\\d+)/orders/(\\d+)");
+        path = "/api/v1/users/123/orders/456";
+        break;
+      default:
+        throw new IllegalArgumentException(kind);
+    }
+
+    route.handler(RoutingContext::next);
+    state = ((RouteImpl) route).state();
+    request = Fakes.request(HttpMethod.GET, path);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public int matches() {
+    return state.matches(new RoutingContextImpl(null, router, request, null), null, false);
+  }
+}
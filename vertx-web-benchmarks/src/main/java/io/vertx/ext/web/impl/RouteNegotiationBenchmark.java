@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.benchmarks.Fakes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content negotiation of a route declaring {@code produces} and {@code consumes}, memoized by {@link RouteState}
+ * compared to parsing and matching the headers on each request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteNegotiationBenchmark {
+
+  @Param({
+    "application/json",
+    "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8"
+  })
+  public String accept;
+
+  private Vertx vertx;
+  private RouterImpl router;
+  private RouteState state;
+  private RouteState plain;
+  private HttpServerRequest request;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    router = (RouterImpl) Router.router(vertx);
+    Route route = router.post("/api/users")
+      .consumes("application/json")
+      .consumes("application/xml")
+      .produces("text/plain")
+      .produces("application/xml")
+      .produces("application/json")
+      .handler(RoutingContext::next);
+    state = ((RouteImpl) route).state();
+    plain = ((RouteImpl) router.post("/api/users").handler(RoutingContext::next)).state();
+    request = Fakes.request(HttpMethod.POST, "/api/users", MultiMap.caseInsensitiveMultiMap()
+      .add(HttpHeaders.ACCEPT, accept)
+      .add(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8"));
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public int withoutNegotiation() {
+    // the cost of matching the route itself, to subtract from the memoized negotiation
+    return plain.matches(new RoutingContextImpl(null, router, request, null), null, false);
+  }
+
+  @Benchmark
+  public int memoized() {
+    return state.matches(new RoutingContextImpl(null, router, request, null), null, false);
+  }
+
+  @Benchmark
+  public MIMEHeader uncached() {
+    // the negotiation done on each request before it was memoized
+    MIMEHeader contentType = new ParsableMIMEValue(request.getHeader(HttpHeaders.CONTENT_TYPE));
+    if (contentType.findMatchedBy(state.getConsumes()) == null) {
+      return null;
+    }
+    List<MIMEHeader> accepted = HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(request.getHeader(HttpHeaders.ACCEPT), ParsableMIMEValue::new));
+    ParsableHeaderValuesContainer container = new ParsableHeaderValuesContainer(accepted, null, null, null, null);
+    return container.findBestUserAcceptedIn(accepted, state.getProduces());
+  }
+}
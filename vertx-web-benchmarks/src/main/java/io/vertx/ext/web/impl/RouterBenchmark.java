@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.benchmarks.Fakes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full dispatch of a request through a router with many routes, from {@link Router#handle} until the handler of the
+ * matching route (or the 404 error handler) is invoked.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+  @Param({"10", "100", "600"})
+  public int routes;
+
+  @Param({"first", "last", "miss"})
+  public String target;
+
+  private Vertx vertx;
+  private Router router;
+  private HttpServerRequest request;
+  private int handled;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    router = Router.router(vertx);
+
+    // a mix of the usual kinds of api routes
+    for (int i = 0; i < routes; i++) {
+      switch (i % 3) {
+        case 0:
+          router.get("/service" + i + "/items").handler(this::handled);
+          break;
+        case 1:
+          router.get("/service" + i + "/items/:id").handler(this::handled);
+          break;
+        default:
+          router.get("/service" + i + "/static/*").handler(this::handled);
+          break;
+      }
+    }
+    router.errorHandler(404, this::handled);
+
+    final String path;
+    switch (target) {
+      case "first":
+        path = "/service0/items";
+        break;
+      case "last":
+        // the last route is always one of the routes with a path parameter
+        int last = routes - 1;
+        while (last % 3 != 1) {
+          last--;
+        }
+        path = "/service" + last + "/items/123";
+        break;
+      case "miss":
+        path = "/unknown/items";
+        break;
+      default:
+        throw new IllegalArgumentException(target);
+    }
+    request = Fakes.request(HttpMethod.GET, path);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  private void handled(RoutingContext ctx) {
+    handled++;
+  }
+
+  @Benchmark
+  public int dispatch() {
+    router.handle(request);
+    return handled;
+  }
+}
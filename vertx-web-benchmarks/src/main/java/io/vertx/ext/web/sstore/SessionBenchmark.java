@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.sstore;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.auth.prng.VertxContextPRNG;
+import io.vertx.ext.web.sstore.impl.SharedDataSessionImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and checksum of a session, which happen on every flush to a session store.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+
+  /**
+   * Exposes the checksum computed by {@link AbstractSession}.
+   */
+  public static class BenchmarkSession extends SharedDataSessionImpl {
+
+    public BenchmarkSession() {
+    }
+
+    BenchmarkSession(VertxContextPRNG random) {
+      super(random, 30 * 60 * 1000, 32);
+    }
+
+    int computeChecksum() {
+      return checksum();
+    }
+  }
+
+  @Param({"4", "64"})
+  public int keys;
+
+  private Vertx vertx;
+  private BenchmarkSession session;
+  private Buffer serialized;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    session = new BenchmarkSession(VertxContextPRNG.current(vertx));
+    for (int i = 0; i < keys; i++) {
+      switch (i % 4) {
+        case 0:
+          session.put("string" + i, "some value stored in the session " + i);
+          break;
+        case 1:
+          session.put("long" + i, (long) i);
+          break;
+        case 2:
+          session.put("bool" + i, i % 2 == 0);
+          break;
+        default:
+          session.put("bytes" + i, new byte[256]);
+          break;
+      }
+    }
+    serialized = Buffer.buffer();
+    session.writeToBuffer(serialized);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Benchmark
+  public Buffer write() {
+    final Buffer buffer = Buffer.buffer(serialized.length());
+    session.writeToBuffer(buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public BenchmarkSession read() {
+    final BenchmarkSession copy = new BenchmarkSession();
+    copy.readFromBuffer(0, serialized);
+    return copy;
+  }
+
+  @Benchmark
+  public int checksum() {
+    return session.computeChecksum();
+  }
+}
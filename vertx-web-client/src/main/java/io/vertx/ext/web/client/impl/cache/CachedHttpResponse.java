@@ -57,15 +57,27 @@ public class CachedHttpResponse {
 
   CachedHttpResponse(String version, int statusCode, String statusMessage, Buffer body,
     MultiMap responseHeaders, CacheControl cacheControl) {
+    this(version, statusCode, statusMessage, body, responseHeaders, Instant.now(), cacheControl); // TODO: should we look at the Date or Age header instead?
+  }
+
+  private CachedHttpResponse(String version, int statusCode, String statusMessage, Buffer body,
+    MultiMap responseHeaders, Instant timestamp, CacheControl cacheControl) {
     this.version = version;
     this.statusCode = statusCode;
     this.statusMessage = statusMessage;
     this.body = body;
     this.responseHeaders = responseHeaders;
-    this.timestamp = Instant.now(); // TODO: should we look at the Date or Age header instead?
+    this.timestamp = timestamp;
     this.cacheControl = cacheControl;
   }
 
+  /**
+   * @return a copy of this response with another body, keeping the original timestamp
+   */
+  CachedHttpResponse withBody(Buffer body) {
+    return new CachedHttpResponse(version, statusCode, statusMessage, body, responseHeaders, timestamp, cacheControl);
+  }
+
   public String getVersion() {
     return version;
   }
@@ -16,38 +16,292 @@
 package io.vertx.ext.web.client.impl.cache;
 
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.client.spi.CacheStore;
-import java.util.HashMap;
+
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
- * A {@link CacheStore} implementation using a local {@link Map}.
+ * A bounded {@link CacheStore} implementation using a local {@link ConcurrentMap}, safe to share across event loops.
+ * <p>
+ * The store is bounded both by number of entries and by weight, the weight of an entry being the approximate size in
+ * bytes of the response body and headers. When a bound is exceeded, entries are evicted using a second chance (CLOCK)
+ * policy: reads only flag an entry as recently used and never take a lock, writes append the entry to an eviction
+ * queue which is drained by a single thread at a time.
+ * <p>
+ * Entries without a validator ({@code ETag}) expire once their age exceeds the {@code max-age} plus the largest of
+ * the {@code stale-while-revalidate} and {@code stale-if-error} windows, as they can no longer be served nor
+ * revalidated. Expired entries are dropped when looked up.
  *
  * @author <a href="mailto:craigday3@gmail.com">Craig Day</a>
  */
 public class LocalCacheStore implements CacheStore {
 
-  private final Map<CacheKey, CachedHttpResponse> localMap = new HashMap<>();
+  /**
+   * Default maximum number of entries = 10000
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+  /**
+   * Default maximum weight = 64MB
+   */
+  public static final long DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024;
+
+  private final ConcurrentMap<CacheKey, Entry> localMap = new ConcurrentHashMap<>();
+  private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong weight = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final int maxEntries;
+  private final long maxWeight;
+  private final Consumer<CachedHttpResponse> removalListener;
+
+  public LocalCacheStore() {
+    this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+  }
+
+  /**
+   * @param maxEntries the maximum number of responses kept in the store
+   * @param maxWeight the maximum weight, in bytes, of the responses kept in the store
+   */
+  public LocalCacheStore(int maxEntries, long maxWeight) {
+    this(maxEntries, maxWeight, null);
+  }
+
+  /**
+   * @param removalListener called with the responses the store no longer holds, evicted, replaced, deleted or too large
+   *                        to be stored
+   */
+  LocalCacheStore(int maxEntries, long maxWeight, Consumer<CachedHttpResponse> removalListener) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be > 0");
+    }
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("maxWeight must be > 0");
+    }
+    this.maxEntries = maxEntries;
+    this.maxWeight = maxWeight;
+    this.removalListener = removalListener;
+  }
 
   @Override
   public Future<CachedHttpResponse> get(CacheKey key) {
-    return Future.succeededFuture(localMap.get(key));
+    Entry entry = localMap.get(key);
+    if (entry == null) {
+      misses.increment();
+      return Future.succeededFuture();
+    }
+    if (isExpired(entry.response)) {
+      remove(entry);
+      misses.increment();
+      return Future.succeededFuture();
+    }
+    entry.referenced = true;
+    hits.increment();
+    return Future.succeededFuture(entry.response);
   }
 
   @Override
   public Future<CachedHttpResponse> set(CacheKey key, CachedHttpResponse response) {
-    return Future.succeededFuture(localMap.put(key, response));
+    Entry entry = new Entry(key, response, weigh(response));
+    if (entry.weight > maxWeight) {
+      // would evict everything else, don't cache it
+      Entry previous = localMap.get(key);
+      if (previous != null) {
+        remove(previous);
+      }
+      removed(response);
+      return Future.succeededFuture(response);
+    }
+    Entry previous = localMap.put(key, entry);
+    weight.addAndGet(previous == null ? entry.weight : entry.weight - previous.weight);
+    if (previous != null) {
+      removed(previous.response);
+    }
+    evictionQueue.offer(entry);
+    queued.incrementAndGet();
+    evict();
+    return Future.succeededFuture(response);
   }
 
   @Override
   public Future<Void> delete(CacheKey key) {
-    localMap.remove(key);
+    Entry entry = localMap.get(key);
+    if (entry != null) {
+      remove(entry);
+    }
     return Future.succeededFuture();
   }
 
   @Override
   public Future<Void> flush() {
-    localMap.clear();
+    for (Entry entry : localMap.values()) {
+      remove(entry);
+    }
+    // the queue nodes are dropped by the next eviction
     return Future.succeededFuture();
   }
+
+  /**
+   * @return the number of responses in the store
+   */
+  public int size() {
+    return localMap.size();
+  }
+
+  /**
+   * @return the weight, in bytes, of the responses in the store
+   */
+  public long weight() {
+    return weight.get();
+  }
+
+  /**
+   * @return the number of lookups that returned a response
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups that did not return a response, including expired responses
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of responses evicted because a bound was exceeded
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  private boolean remove(Entry entry) {
+    if (localMap.remove(entry.key, entry)) {
+      weight.addAndGet(-entry.weight);
+      removed(entry.response);
+      return true;
+    }
+    return false;
+  }
+
+  private void removed(CachedHttpResponse response) {
+    if (removalListener != null) {
+      removalListener.accept(response);
+    }
+  }
+
+  private boolean overflows() {
+    return localMap.size() > maxEntries || weight.get() > maxWeight;
+  }
+
+  private void evict() {
+    // a single thread evicts at a time, the others don't wait for it
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      if (queued.get() > 2 * localMap.size() + 16) {
+        // too many nodes of replaced or removed entries, drop them
+        for (int i = queued.get(); i > 0; i--) {
+          Entry entry = evictionQueue.poll();
+          if (entry == null) {
+            break;
+          }
+          if (localMap.get(entry.key) == entry) {
+            evictionQueue.offer(entry);
+          } else {
+            queued.decrementAndGet();
+          }
+        }
+      }
+      while (overflows()) {
+        Entry entry = evictionQueue.poll();
+        if (entry == null) {
+          break;
+        }
+        if (localMap.get(entry.key) != entry) {
+          queued.decrementAndGet();
+        } else if (entry.referenced) {
+          // give it a second chance
+          entry.referenced = false;
+          evictionQueue.offer(entry);
+        } else {
+          queued.decrementAndGet();
+          if (remove(entry)) {
+            evictions.increment();
+          }
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static boolean isExpired(CachedHttpResponse response) {
+    CacheControl cacheControl = response.getCacheControl();
+    if (cacheControl.getEtag() != null) {
+      // can still be revalidated with a conditional request
+      return false;
+    }
+    long maxAge = cacheControl.getMaxAge();
+    if (maxAge == Long.MAX_VALUE) {
+      return false;
+    }
+    long secondsStale = response.age() - Math.max(0L, maxAge);
+    if (secondsStale <= 0L) {
+      return false;
+    }
+    Map<CacheControlDirective, Long> timeDirectives = cacheControl.getTimeDirectives();
+    long maxSecondsStale = Math.max(
+      timeDirectives.getOrDefault(CacheControlDirective.STALE_WHILE_REVALIDATE, 0L),
+      timeDirectives.getOrDefault(CacheControlDirective.STALE_IF_ERROR, 0L));
+    return secondsStale > maxSecondsStale;
+  }
+
+  private static long weigh(CachedHttpResponse response) {
+    long weight = 0L;
+    Buffer body = response.getBody();
+    if (body != null) {
+      weight += body.length();
+    }
+    if (response.getResponseHeaders() != null) {
+      for (Map.Entry<String, String> header : response.getResponseHeaders()) {
+        weight += header.getKey().length() + header.getValue().length();
+      }
+    }
+    if (response.getStatusMessage() != null) {
+      weight += response.getStatusMessage().length();
+    }
+    return weight;
+  }
+
+  private static final class Entry {
+
+    final CacheKey key;
+    final CachedHttpResponse response;
+    final long weight;
+    volatile boolean referenced;
+
+    Entry(CacheKey key, CachedHttpResponse response, long weight) {
+      this.key = key;
+      this.response = response;
+      this.weight = weight;
+    }
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.client.impl.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.ext.web.client.spi.CacheStore;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link CacheStore} that keeps the response bodies in pooled direct memory, only the response metadata stays on the
+ * heap.
+ * <p>
+ * Bodies are copied once in a pooled direct buffer when stored, and released explicitly when the response is evicted,
+ * replaced or deleted, so the direct memory in use is bounded by the weight of the store instead of waiting for the
+ * garbage collector. Lookups copy the body to the heap: a released buffer returns to the pool and is reused, so it must
+ * not be referenced by the responses handed out. A buffer is only released once no lookup is copying it.
+ */
+public class OffHeapCacheStore implements CacheStore {
+
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+  private final LocalCacheStore delegate;
+  // the bodies of the responses no longer in the store, released once no lookup holds the read lock
+  private final Queue<ByteBuf> removed = new ConcurrentLinkedQueue<>();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * @param maxEntries the maximum number of responses kept in the store
+   * @param maxWeight the maximum weight, in bytes, of the responses kept in the store
+   */
+  public OffHeapCacheStore(int maxEntries, long maxWeight) {
+    this.delegate = new LocalCacheStore(maxEntries, maxWeight, this::removed);
+  }
+
+  @Override
+  public Future<CachedHttpResponse> get(CacheKey key) {
+    final CachedHttpResponse response;
+    lock.readLock().lock();
+    try {
+      // the local store completes its futures right away
+      response = toHeap(delegate.get(key).result());
+    } finally {
+      lock.readLock().unlock();
+    }
+    release();
+    return Future.succeededFuture(response);
+  }
+
+  @Override
+  public Future<CachedHttpResponse> set(CacheKey key, CachedHttpResponse response) {
+    delegate.set(key, response.withBody(toDirect(response.getBody())));
+    release();
+    return Future.succeededFuture(response);
+  }
+
+  @Override
+  public Future<Void> delete(CacheKey key) {
+    delegate.delete(key);
+    release();
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> flush() {
+    delegate.flush();
+    release();
+    return Future.succeededFuture();
+  }
+
+  private void removed(CachedHttpResponse response) {
+    if (response.getBody() != null) {
+      removed.add(((BufferInternal) response.getBody()).getByteBuf());
+    }
+  }
+
+  private void release() {
+    if (removed.isEmpty() || !lock.writeLock().tryLock()) {
+      // a lookup releases them
+      return;
+    }
+    try {
+      ByteBuf buf;
+      while ((buf = removed.poll()) != null) {
+        buf.release();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static CachedHttpResponse toHeap(CachedHttpResponse response) {
+    if (response == null || response.getBody() == null) {
+      return response;
+    }
+    ByteBuf stored = ((BufferInternal) response.getBody()).getByteBuf();
+    byte[] bytes = new byte[stored.readableBytes()];
+    stored.getBytes(stored.readerIndex(), bytes);
+    return response.withBody(Buffer.buffer(bytes));
+  }
+
+  private static Buffer toDirect(Buffer body) {
+    if (body == null) {
+      return null;
+    }
+    ByteBuf direct = ALLOCATOR.directBuffer(body.length(), body.length());
+    if (body instanceof BufferInternal) {
+      ByteBuf buf = ((BufferInternal) body).getByteBuf();
+      direct.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+    } else {
+      direct.writeBytes(body.getBytes());
+    }
+    return BufferInternal.buffer(direct);
+  }
+}
@@ -23,6 +23,7 @@ import io.vertx.ext.web.client.impl.cache.CacheKey;
 import io.vertx.ext.web.client.impl.cache.CachedHttpResponse;
 import io.vertx.ext.web.client.impl.cache.LocalCacheStore;
 import io.vertx.ext.web.client.impl.cache.NoOpCacheStore;
+import io.vertx.ext.web.client.impl.cache.OffHeapCacheStore;
 import io.vertx.ext.web.client.impl.cache.SharedDataCacheStore;
 
 /**
@@ -61,6 +62,31 @@ public interface CacheStore {
     return new LocalCacheStore();
   }
 
+  /**
+   * Builds a cache store that uses a {@link java.util.concurrent.ConcurrentHashMap}, bounded by number of entries
+   * and by weight.
+   *
+   * @param maxEntries the maximum number of responses kept in the store
+   * @param maxWeight  the maximum size in bytes of the responses kept in the store
+   * @return the new cache store
+   */
+  static CacheStore localStore(int maxEntries, long maxWeight) {
+    return new LocalCacheStore(maxEntries, maxWeight);
+  }
+
+  /**
+   * Builds a cache store that uses a {@link java.util.concurrent.ConcurrentHashMap} and keeps the response bodies in
+   * pooled direct memory, bounded by number of entries and by weight. The memory of a body is released when its response
+   * leaves the store, the bodies are copied to the heap when looked up.
+   *
+   * @param maxEntries the maximum number of responses kept in the store
+   * @param maxWeight  the maximum size in bytes of the responses kept in the store
+   * @return the new cache store
+   */
+  static CacheStore offHeapStore(int maxEntries, long maxWeight) {
+    return new OffHeapCacheStore(maxEntries, maxWeight);
+  }
+
   /**
    * Retrieve a cached response.
    *
@@ -9,6 +9,7 @@ import io.vertx.junit5.VertxTest;
 import io.vertx.ext.web.client.*;
 import io.vertx.ext.web.client.impl.cache.CacheKey;
 import io.vertx.ext.web.client.impl.cache.CachedHttpResponse;
+import io.vertx.ext.web.client.impl.cache.LocalCacheStore;
 import io.vertx.ext.web.client.spi.CacheStore;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -903,6 +904,56 @@ public class CachingWebClientTest {
 
   }
 
+  @Test
+  public void testLocalStoreIsBounded() throws Exception {
+    startMockServer("public, max-age=600");
+    LocalCacheStore store = new LocalCacheStore(2, LocalCacheStore.DEFAULT_MAX_WEIGHT);
+    WebClient client = CachingWebClient.create(buildBaseWebClient(), store);
+
+    String a = executeGetBlocking(client, req -> req.uri("/a"));
+    executeGetBlocking(client, req -> req.uri("/b"));
+    executeGetBlocking(client, req -> req.uri("/c"));
+
+    assertEquals(2, store.size());
+    assertEquals(1, store.evictionCount());
+    // the least recently added entry was evicted
+    assertNotEquals(a, executeGetBlocking(client, req -> req.uri("/a")));
+    assertEquals(0, store.hitCount());
+    // lookups only happen once a variation of the path is known
+    assertEquals(1, store.missCount());
+  }
+
+  @Test
+  public void testLocalStoreExpiresUnvalidatedStaleEntries() throws Exception {
+    startMockServer("public, max-age=1");
+    LocalCacheStore store = new LocalCacheStore();
+    WebClient client = CachingWebClient.create(buildBaseWebClient(), store);
+
+    String body1 = executeGetBlocking(client);
+    String body2 = executeGetBlocking(client);
+    assertEquals(body1, body2);
+    assertEquals(1, store.hitCount());
+
+    Thread.sleep(2500);
+
+    assertNotEquals(body1, executeGetBlocking(client));
+    assertEquals(1, store.size());
+    assertTrue(store.weight() > 0);
+  }
+
+  @Test
+  public void testOffHeapStore() throws Exception {
+    startMockServer("public, max-age=600");
+    WebClient client = CachingWebClient.create(buildBaseWebClient(), CacheStore.offHeapStore(10, 1024 * 1024));
+
+    String body1 = executeGetBlocking(client);
+    String body2 = executeGetBlocking(client);
+    String body3 = executeGetBlocking(client);
+
+    assertEquals(body1, body2);
+    assertEquals(body1, body3);
+  }
+
   static class TestCacheStore implements CacheStore {
     public final Map<String, CachedHttpResponse> db = new ConcurrentHashMap<>();
 
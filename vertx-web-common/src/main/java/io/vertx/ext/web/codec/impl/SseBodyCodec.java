@@ -9,6 +9,9 @@ import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.codec.BodyCodec;
 import io.vertx.ext.web.codec.SseEvent;
 import io.vertx.ext.web.codec.spi.BodyStream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -37,7 +40,7 @@ public class SseBodyCodec implements BodyCodec<Void> {
     private Handler<SseEvent> handler;
     private Handler<Void> endHandler;
     private final AtomicLong demand = new AtomicLong(Long.MAX_VALUE);
-    private Buffer content = Buffer.buffer();
+    private final SseParser parser = new SseParser();
     private volatile boolean ended;
     private Handler<Void> drainHandler;
     private Handler<Throwable> errorHandler;
@@ -81,28 +84,7 @@ public class SseBodyCodec implements BodyCodec<Void> {
     }
 
     SseEvent nextSseEvent() {
-      SseEventBuilder eventBuilder = new SseEventBuilder();
-      int lineStart = 0;
-      byte[] bytes = content.getBytes();
-
-      for (int i = 0; i < bytes.length; i++) {
-        byte b = bytes[i];
-        if (b == '\n' || b == '\r') {
-          // Extract the line without the newline character
-          String line = content.getString(lineStart, i, "UTF-8");
-
-          if (line.isEmpty()) {
-            // Empty line dispatches the event
-            content = content.getBuffer(i + 1, content.length());
-            return eventBuilder.build();
-          } else {
-            eventBuilder.parseLine(line);
-          }
-
-          lineStart = i + 1;
-        }
-      }
-      return null;
+      return parser.next();
     }
 
     void check() {
@@ -139,7 +121,7 @@ public class SseBodyCodec implements BodyCodec<Void> {
       }
       Handler<Void> h = null;
       synchronized (lock) {
-        if (content.length() < LOW_WATERMARK && writeQueueFull) {
+        if (parser.pending() < LOW_WATERMARK && writeQueueFull) {
           writeQueueFull = false;
           h = drainHandler;
         }
@@ -159,7 +141,7 @@ public class SseBodyCodec implements BodyCodec<Void> {
     @Override
     public Future<Void> write(Buffer buffer) {
       synchronized (lock) {
-        content.appendBuffer(buffer);
+        parser.append(buffer);
       }
       check();
       return Future.succeededFuture();
@@ -167,7 +149,7 @@ public class SseBodyCodec implements BodyCodec<Void> {
 
     @Override
     public boolean writeQueueFull() {
-      return content.length() >= HIGH_WATERMARK;
+      return parser.pending() >= HIGH_WATERMARK;
     }
 
     @Override
@@ -208,89 +190,155 @@ public class SseBodyCodec implements BodyCodec<Void> {
     }
   }
 
-  private static class SseEventBuilder {
+  /**
+   * An incremental parser of the event stream format.
+   * <p>
+   * The bytes are scanned once, from a cursor kept between writes. The field names are matched on the bytes and the
+   * data lines are copied to a reused buffer, decoded once when the event is dispatched. The parsed bytes are dropped
+   * when they are at least half of the content, so the cost of the copies stays linear in the size of the stream.
+   */
+  static final class SseParser {
+
+    private static final byte[] DATA = {'d', 'a', 't', 'a'};
+    private static final byte[] EVENT = {'e', 'v', 'e', 'n', 't'};
+    private static final byte[] ID = {'i', 'd'};
+    private static final byte[] RETRY = {'r', 'e', 't', 'r', 'y'};
+    private static final int DATA_SIZE = 256;
+    private static final int MAX_RETAINED_DATA_SIZE = 64 * 1024;
+
+    private Buffer content = Buffer.buffer();
+    // start of the current line
+    private int readIndex;
+    // where the scan for the end of the current line resumes
+    private int scanIndex;
+    // the last line ended with a CR, a LF following it belongs to the same line ending
+    private boolean skipLF;
 
     private String id;
     private String event = "message";
-    private StringBuilder data = new StringBuilder();
+    private byte[] data = new byte[DATA_SIZE];
+    private int dataLength;
     private int retry;
 
-    SseEventBuilder id(String id) {
-      this.id = id;
-      return this;
+    void append(Buffer buffer) {
+      if (readIndex > 0 && readIndex >= content.length() - readIndex) {
+        content = content.getBuffer(readIndex, content.length());
+        scanIndex -= readIndex;
+        readIndex = 0;
+      }
+      content.appendBuffer(buffer);
     }
 
-    SseEventBuilder event(String event) {
-      this.event = event;
-      return this;
+    /**
+     * @return the number of bytes not parsed yet
+     */
+    int pending() {
+      return content.length() - readIndex;
     }
 
-    SseEventBuilder data(String data) {
-      if (this.data.length() > 0) {
-        this.data.append('\n');
+    /**
+     * @return the next event, or {@code null} when the content does not hold a complete event
+     */
+    SseEvent next() {
+      final int length = content.length();
+      for (int i = scanIndex; i < length; i++) {
+        final byte b = content.getByte(i);
+        if (skipLF) {
+          skipLF = false;
+          if (b == '\n') {
+            readIndex = i + 1;
+            continue;
+          }
+        }
+        if (b == '\n' || b == '\r') {
+          final int lineStart = readIndex;
+          skipLF = b == '\r';
+          readIndex = scanIndex = i + 1;
+          if (i == lineStart) {
+            // an empty line dispatches the event
+            return dispatch();
+          }
+          parseLine(lineStart, i);
+        }
       }
-      this.data.append(data);
-      return this;
-    }
-
-    SseEventBuilder retry(int retry) {
-      this.retry = retry;
-      return this;
+      scanIndex = length;
+      return null;
     }
 
-    void parseLine(String line) {
-      int colonIndex = line.indexOf(':');
-      if (colonIndex == 0) {
-        return;
+    private void parseLine(int start, int end) {
+      int colon = start;
+      while (colon < end && content.getByte(colon) != ':') {
+        colon++;
       }
-      if (colonIndex == -1) {
-        processField(line, "");
+      if (colon == start) {
+        // comment
         return;
       }
-      String field = line.substring(0, colonIndex);
-      String value = line.substring(colonIndex + 1);
-      // Remove leading space from value if present (SSE spec)
-      if (value.startsWith(" ")) {
-        value = value.substring(1);
+      int valueStart = colon == end ? end : colon + 1;
+      // remove leading space from value if present (SSE spec)
+      if (valueStart < end && content.getByte(valueStart) == ' ') {
+        valueStart++;
+      }
+      // field names must be compared literally, with no case folding performed
+      if (isField(start, colon, DATA)) {
+        appendData(valueStart, end);
+      } else if (isField(start, colon, EVENT)) {
+        event = content.getString(valueStart, end, "UTF-8");
+      } else if (isField(start, colon, ID)) {
+        id = content.getString(valueStart, end, "UTF-8");
+      } else if (isField(start, colon, RETRY)) {
+        // If the field value consists of only ASCII digits, then interpret the field value as an
+        // integer in base ten, and set the event stream's reconnection time to that integer.
+        // Otherwise, ignore the field.
+        String value = content.getString(valueStart, end, "UTF-8");
+        try {
+          retry = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+          throw new RuntimeException("Invalid \"retry\" value:" + value, ex);
+        }
       }
-      processField(field, value);
+      // unknown fields are ignored as per SSE spec
     }
 
-    private void processField(String field, String value) {
-      // Field names must be compared literally, with no case folding performed.
-      switch (field) {
-        case "event":
-          event(value);
-          break;
-        case "data":
-          data(value);
-          break;
-        case "id":
-          id(value);
-          break;
-        case "retry":
-          // If the field value consists of only ASCII digits, then interpret the field value as an
-          // integer in base ten, and set the event stream's reconnection time to that integer.
-          // Otherwise, ignore the field.
-          try {
-            retry(Integer.parseInt(value));
-          } catch (NumberFormatException ex) {
-            throw new RuntimeException("Invalid \"retry\" value:" + value, ex);
-          }
-          break;
-        default:
-          // Ignore unknown fields as per SSE spec
-          break;
+    private boolean isField(int start, int end, byte[] name) {
+      if (end - start != name.length) {
+        return false;
+      }
+      for (int i = 0; i < name.length; i++) {
+        if (content.getByte(start + i) != name[i]) {
+          return false;
+        }
       }
+      return true;
     }
 
-    public SseEvent build() {
-      String dataStr = this.data.toString();
-      // Remove trailing LF if present (SSE spec requirement)
-      if (dataStr.endsWith("\n")) {
-        dataStr = dataStr.substring(0, dataStr.length() - 1);
+    private void appendData(int start, int end) {
+      final int required = dataLength + 1 + end - start;
+      if (required > data.length) {
+        data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+      }
+      if (dataLength > 0) {
+        data[dataLength++] = '\n';
+      }
+      content.getBytes(start, end, data, dataLength);
+      dataLength += end - start;
+    }
+
+    private SseEvent dispatch() {
+      int length = dataLength;
+      // remove trailing LF if present (SSE spec requirement)
+      if (length > 0 && data[length - 1] == '\n') {
+        length--;
+      }
+      final SseEvent result = new SseEvent(id, event, new String(data, 0, length, StandardCharsets.UTF_8), retry);
+      id = null;
+      event = "message";
+      retry = 0;
+      dataLength = 0;
+      if (data.length > MAX_RETAINED_DATA_SIZE) {
+        data = new byte[DATA_SIZE];
       }
-      return new SseEvent(this.id, this.event, dataStr, this.retry);
+      return result;
     }
   }
 }
@@ -57,6 +57,14 @@ public abstract class CachingTemplateEngine<T> implements TemplateEngine {
     return null;
   }
 
+  /**
+   * @param templateFileName the template file name given to {@link #render(java.util.Map, String)}
+   * @return the location of the template file, with the engine extension
+   */
+  public String location(String templateFileName) {
+    return adjustLocation(templateFileName);
+  }
+
   protected String adjustLocation(String location) {
     if (extension != null) {
       if (!location.endsWith(extension)) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.common.template;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.ext.web.common.template.impl.OffloadingTemplateEngineImpl;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A template engine rendering the templates of another engine off the event loop, so a slow page does not stall the
+ * other connections of the event loop.
+ * <p>
+ * The rendering runs on a worker executor, or on any {@link Executor} such as a virtual thread per task executor, and
+ * the result is delivered on the context of the caller. The engine keeps the number of queued and running renders and
+ * the time spent rendering, to size the pool.
+ */
+@VertxGen
+public interface OffloadingTemplateEngine extends TemplateEngine {
+
+  /**
+   * Default name of the worker pool rendering the templates
+   */
+  String DEFAULT_WORKER_POOL_NAME = "vert.x-web-template-render";
+
+  /**
+   * Create an engine rendering on a dedicated worker pool named {@link #DEFAULT_WORKER_POOL_NAME}, the pool is closed
+   * by {@link #close()}.
+   *
+   * @param vertx  the vertx instance
+   * @param engine  the engine rendering the templates
+   * @param poolSize  the number of threads of the worker pool
+   * @return the engine
+   */
+  static OffloadingTemplateEngine create(Vertx vertx, TemplateEngine engine, int poolSize) {
+    return new OffloadingTemplateEngineImpl(vertx, engine, vertx.createSharedWorkerExecutor(DEFAULT_WORKER_POOL_NAME, poolSize), true);
+  }
+
+  /**
+   * Create an engine rendering on a worker executor.
+   *
+   * @param vertx  the vertx instance
+   * @param engine  the engine rendering the templates
+   * @param executor  the worker executor
+   * @return the engine
+   */
+  static OffloadingTemplateEngine create(Vertx vertx, TemplateEngine engine, WorkerExecutor executor) {
+    return new OffloadingTemplateEngineImpl(vertx, engine, executor, false);
+  }
+
+  /**
+   * Create an engine rendering on an executor, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} to render on
+   * virtual threads.
+   *
+   * @param vertx  the vertx instance
+   * @param engine  the engine rendering the templates
+   * @param executor  the executor
+   * @return the engine
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static OffloadingTemplateEngine create(Vertx vertx, TemplateEngine engine, Executor executor) {
+    return new OffloadingTemplateEngineImpl(vertx, engine, executor);
+  }
+
+  /**
+   * @return the number of renders waiting for a thread
+   */
+  int pendingRenders();
+
+  /**
+   * @return the number of renders running
+   */
+  int activeRenders();
+
+  /**
+   * @return the number of completed renders
+   */
+  long renderCount();
+
+  /**
+   * @return the total time spent rendering, in nanoseconds
+   */
+  long renderTime();
+
+  /**
+   * @return the longest render time, in nanoseconds
+   */
+  long maxRenderTime();
+
+  /**
+   * Close the worker pool created by {@link #create(Vertx, TemplateEngine, int)}, executors provided to the other
+   * factory methods are left open.
+   *
+   * @return a future completed when the pool is closed
+   */
+  Future<Void> close();
+}
@@ -21,6 +21,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
 
 import java.util.Map;
 
@@ -63,6 +64,22 @@ public interface TemplateEngine {
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   Future<Buffer> render(Map<String, Object> context, String templateFileName);
 
+  /**
+   * Render the template to a stream, the stream is not ended so more content can be written after the template.
+   * <p>
+   * Engines able to render to a writer send the output in chunks as it is rendered, others render the whole output
+   * before writing it to the stream.
+   *
+   * @param context  the routing context
+   * @param templateFileName  the template file name to use
+   * @param stream  the stream the output is written to
+   * @return a future notified when the output has been written to the stream or with a failure
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default Future<Void> render(Map<String, Object> context, String templateFileName, WriteStream<Buffer> stream) {
+    return render(context, templateFileName).compose(stream::write);
+  }
+
   /**
    * Returns the underlying engine, so further configurations or customizations may be applied or {@code null} when the
    * engine cannot unwrap it.
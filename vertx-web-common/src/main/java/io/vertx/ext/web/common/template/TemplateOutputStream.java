@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.common.template;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+
+/**
+ * An output stream template engines render into, writing the output to a {@link WriteStream} in chunks.
+ * <p>
+ * Engines render synchronously, so the rendering cannot wait for the stream to drain. While the stream write queue is
+ * full the chunks are held by this output stream and written on the stream drain handler, so the stream write queue
+ * never grows past its high watermark. The held chunks are not bounded: for a slow client the whole output can be held
+ * until the stream drains.
+ */
+public class TemplateOutputStream extends OutputStream {
+
+  public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  private final WriteStream<Buffer> stream;
+  private final int chunkSize;
+  private final ArrayDeque<Buffer> pending = new ArrayDeque<>();
+  private final Promise<Void> result = Promise.promise();
+
+  private Buffer buffer;
+  private Future<Void> lastWrite;
+  private boolean ended;
+
+  public TemplateOutputStream(WriteStream<Buffer> stream) {
+    this(stream, DEFAULT_CHUNK_SIZE);
+  }
+
+  public TemplateOutputStream(WriteStream<Buffer> stream, int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be >= 1");
+    }
+    this.stream = stream;
+    this.chunkSize = chunkSize;
+    this.buffer = Buffer.buffer(chunkSize);
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.appendByte((byte) b);
+    if (buffer.length() >= chunkSize) {
+      flushChunk();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    buffer.appendBytes(b, off, len);
+    if (buffer.length() >= chunkSize) {
+      flushChunk();
+    }
+  }
+
+  /**
+   * Write the remaining output to the stream, the stream is not ended.
+   *
+   * @return a future completed when the whole output has been written to the stream
+   */
+  public synchronized Future<Void> end() {
+    if (!ended) {
+      ended = true;
+      if (buffer.length() > 0) {
+        flushChunk();
+      }
+      buffer = null;
+      if (pending.isEmpty()) {
+        complete();
+      }
+    }
+    return result.future();
+  }
+
+  private synchronized void flushChunk() {
+    Buffer chunk = buffer;
+    buffer = ended ? null : Buffer.buffer(chunkSize);
+    if (pending.isEmpty() && !stream.writeQueueFull()) {
+      lastWrite = stream.write(chunk);
+    } else {
+      if (pending.isEmpty()) {
+        stream.drainHandler(v -> drain());
+      }
+      pending.add(chunk);
+    }
+  }
+
+  private synchronized void drain() {
+    while (!pending.isEmpty() && !stream.writeQueueFull()) {
+      lastWrite = stream.write(pending.poll());
+    }
+    if (pending.isEmpty()) {
+      stream.drainHandler(null);
+      if (ended) {
+        complete();
+      }
+    } else {
+      stream.drainHandler(v -> drain());
+    }
+  }
+
+  private void complete() {
+    // writes are ordered, so the last write fails when any fails
+    if (lastWrite == null) {
+      result.complete();
+    } else {
+      lastWrite.onComplete(result);
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.common.template.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.common.template.OffloadingTemplateEngine;
+import io.vertx.ext.web.common.template.TemplateEngine;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class OffloadingTemplateEngineImpl implements OffloadingTemplateEngine {
+
+  private final Vertx vertx;
+  private final TemplateEngine engine;
+  // submits a render, the future fails when the render is rejected
+  private final Function<Runnable, Future<?>> submitter;
+  // the worker executor created for this engine, closed with it
+  private final WorkerExecutor ownedExecutor;
+
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder count = new LongAdder();
+  private final LongAdder time = new LongAdder();
+  private final AtomicLong maxTime = new AtomicLong();
+
+  public OffloadingTemplateEngineImpl(Vertx vertx, TemplateEngine engine, Executor executor) {
+    this(vertx, engine, task -> {
+      executor.execute(task);
+      return Future.succeededFuture();
+    }, null);
+  }
+
+  public OffloadingTemplateEngineImpl(Vertx vertx, TemplateEngine engine, WorkerExecutor executor, boolean owned) {
+    this(vertx, engine, task -> executor.executeBlocking(() -> {
+      task.run();
+      return null;
+    }, false), owned ? executor : null);
+  }
+
+  private OffloadingTemplateEngineImpl(Vertx vertx, TemplateEngine engine, Function<Runnable, Future<?>> submitter, WorkerExecutor ownedExecutor) {
+    this.vertx = vertx;
+    this.engine = engine;
+    this.submitter = submitter;
+    this.ownedExecutor = ownedExecutor;
+  }
+
+  @Override
+  public Future<Buffer> render(Map<String, Object> context, String templateFileName) {
+    return offload(vertx.getOrCreateContext(), () -> engine.render(context, templateFileName));
+  }
+
+  @Override
+  public Future<Void> render(Map<String, Object> context, String templateFileName, WriteStream<Buffer> stream) {
+    final Context ctx = vertx.getOrCreateContext();
+    // the stream is written on the context of the caller, not on the rendering thread
+    final WriteStream<Buffer> contextStream = new ContextWriteStream(ctx, stream);
+    return offload(ctx, () -> engine.render(context, templateFileName, contextStream));
+  }
+
+  private <T> Future<T> offload(Context context, Supplier<Future<T>> render) {
+    final Promise<T> promise = Promise.promise();
+    final AtomicBoolean started = new AtomicBoolean();
+    pending.incrementAndGet();
+    final Runnable task = () -> {
+      started.set(true);
+      pending.decrementAndGet();
+      active.incrementAndGet();
+      final long start = System.nanoTime();
+      Future<T> result;
+      try {
+        result = render.get();
+      } catch (RuntimeException e) {
+        result = Future.failedFuture(e);
+      } finally {
+        // engines render synchronously, a streamed output may still be waiting for the stream to drain
+        recordRender(System.nanoTime() - start);
+      }
+      result.onComplete(ar -> context.runOnContext(v -> promise.handle(ar)));
+    };
+    Future<?> submitted;
+    try {
+      submitted = submitter.apply(task);
+    } catch (RuntimeException e) {
+      // e.g. RejectedExecutionException
+      submitted = Future.failedFuture(e);
+    }
+    submitted.onFailure(err -> {
+      // a closed or saturated executor reports the rejection with the future
+      if (!started.get()) {
+        pending.decrementAndGet();
+        context.runOnContext(v -> promise.fail(err));
+      }
+    });
+    return promise.future();
+  }
+
+  private void recordRender(long duration) {
+    active.decrementAndGet();
+    count.increment();
+    time.add(duration);
+    maxTime.accumulateAndGet(duration, Math::max);
+  }
+
+  @Override
+  public int pendingRenders() {
+    return pending.get();
+  }
+
+  @Override
+  public int activeRenders() {
+    return active.get();
+  }
+
+  @Override
+  public long renderCount() {
+    return count.sum();
+  }
+
+  @Override
+  public long renderTime() {
+    return time.sum();
+  }
+
+  @Override
+  public long maxRenderTime() {
+    return maxTime.get();
+  }
+
+  @Override
+  public Future<Void> close() {
+    return ownedExecutor == null ? Future.succeededFuture() : ownedExecutor.close();
+  }
+
+  @Override
+  public Object unwrap() {
+    return engine.unwrap();
+  }
+
+  @Override
+  public void clearCache() {
+    engine.clearCache();
+  }
+
+  /**
+   * Hops the operations of a stream written by the rendering thread to the context the stream belongs to.
+   */
+  private static final class ContextWriteStream implements WriteStream<Buffer> {
+
+    private final Context context;
+    private final WriteStream<Buffer> stream;
+
+    private ContextWriteStream(Context context, WriteStream<Buffer> stream) {
+      this.context = context;
+      this.stream = stream;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      final Promise<Void> promise = Promise.promise();
+      context.runOnContext(v -> stream.write(data).onComplete(promise));
+      return promise.future();
+    }
+
+    @Override
+    public Future<Void> end() {
+      final Promise<Void> promise = Promise.promise();
+      context.runOnContext(v -> stream.end().onComplete(promise));
+      return promise.future();
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      context.runOnContext(v -> stream.exceptionHandler(handler));
+      return this;
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      context.runOnContext(v -> stream.setWriteQueueMaxSize(maxSize));
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return stream.writeQueueFull();
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      context.runOnContext(v -> {
+        stream.drainHandler(handler);
+        if (handler != null && !stream.writeQueueFull()) {
+          // drained before the handler was set
+          handler.handle(null);
+        }
+      });
+      return this;
+    }
+  }
+}
@@ -22,6 +22,11 @@ public class GraphQLHandlerOptionsConverter {
             obj.setRequestMultipartEnabled((Boolean)member.getValue());
           }
           break;
+        case "responseChunkSize":
+          if (member.getValue() instanceof Number) {
+            obj.setResponseChunkSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -33,5 +38,6 @@ public class GraphQLHandlerOptionsConverter {
    static void toJson(GraphQLHandlerOptions obj, java.util.Map<String, Object> json) {
     json.put("requestBatchingEnabled", obj.isRequestBatchingEnabled());
     json.put("requestMultipartEnabled", obj.isRequestMultipartEnabled());
+    json.put("responseChunkSize", obj.getResponseChunkSize());
   }
 }
@@ -39,8 +39,14 @@ public class GraphQLHandlerOptions {
    */
   public static final boolean DEFAULT_REQUEST_MULTIPART_ENABLED = false;
 
+  /**
+   * The size of the response chunks by default = 0, the response is not chunked.
+   */
+  public static final int DEFAULT_RESPONSE_CHUNK_SIZE = 0;
+
   private boolean requestBatchingEnabled = DEFAULT_REQUEST_BATCHING_ENABLED;
   private boolean requestMultipartEnabled = DEFAULT_REQUEST_MULTIPART_ENABLED;
+  private int responseChunkSize = DEFAULT_RESPONSE_CHUNK_SIZE;
 
   /**
    * Default constructor.
@@ -56,6 +62,7 @@ public class GraphQLHandlerOptions {
   public GraphQLHandlerOptions(GraphQLHandlerOptions other) {
     requestBatchingEnabled = other.requestBatchingEnabled;
     requestMultipartEnabled = other.requestMultipartEnabled;
+    responseChunkSize = other.responseChunkSize;
   }
 
   /**
@@ -114,4 +121,28 @@ public class GraphQLHandlerOptions {
     this.requestMultipartEnabled = requestMultipartEnabled;
     return this;
   }
+
+  /**
+   * @return the size of the response chunks, or a non positive value if the response is not chunked
+   */
+  public int getResponseChunkSize() {
+    return responseChunkSize;
+  }
+
+  /**
+   * Set the size of the response chunks. Defaults to {@code 0}.
+   * <p>
+   * When positive, the results are written to the response as they are serialized, in chunks of the given size,
+   * instead of being buffered in full before the response is sent. This lowers the time to the first byte of large
+   * results. The serialization pauses while the response write queue is full, so the memory used for slow clients
+   * stays bounded.
+   *
+   * @param responseChunkSize the size of the chunks in bytes, a non positive value to send the response at once
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public GraphQLHandlerOptions setResponseChunkSize(int responseChunkSize) {
+    this.responseChunkSize = responseChunkSize;
+    return this;
+  }
 }
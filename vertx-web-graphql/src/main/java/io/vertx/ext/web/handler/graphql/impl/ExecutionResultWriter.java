@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.ext.web.handler.graphql.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes GraphQL execution results, in their specification form, as JSON to an HTTP response.
+ * <p>
+ * The results are encoded straight to the response buffer, without copying them to a {@link JsonObject}. When a chunk
+ * size is set, the response is chunked and the buffer is written each time it reaches the chunk size, otherwise the
+ * whole response is sent at once.
+ * <p>
+ * The results are walked with an explicit stack instead of recursively, so the serialization can stop between two
+ * values: when the response write queue is full, it resumes once the response is drained, and the memory used by the
+ * response of a slow client stays bounded by the write queue size.
+ */
+public class ExecutionResultWriter extends OutputStream {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  private final HttpServerResponse response;
+  private final int chunkSize;
+  // the maps and lists being written, innermost first
+  private final Deque<Frame> stack = new ArrayDeque<>();
+  private JsonGenerator gen;
+  private Buffer buffer;
+
+  public ExecutionResultWriter(HttpServerResponse response, int chunkSize) {
+    this.response = response;
+    this.chunkSize = chunkSize;
+    this.buffer = chunkSize > 0 ? Buffer.buffer(chunkSize) : Buffer.buffer();
+  }
+
+  /**
+   * Write a single result, or a JSON array of results for a batch, and end the response.
+   * <p>
+   * Failures while the response head has not been written are thrown, later failures reset the response.
+   *
+   * @param results the results in their specification form
+   * @param batch whether the results are written as a JSON array
+   */
+  public void end(List<Map<String, Object>> results, boolean batch) throws IOException {
+    gen = FACTORY.createGenerator(this);
+    writeValue(batch ? results : results.get(0));
+    pump();
+  }
+
+  private void pump() throws IOException {
+    while (!stack.isEmpty()) {
+      step();
+      if (chunkSize > 0 && buffer.length() + gen.getOutputBuffered() >= chunkSize) {
+        // writes the chunk
+        gen.flush();
+        if (response.writeQueueFull()) {
+          response.drainHandler(v -> resume());
+          return;
+        }
+      }
+    }
+    gen.close();
+    response.end(buffer);
+    buffer = null;
+  }
+
+  private void resume() {
+    response.drainHandler(null);
+    if (response.closed()) {
+      return;
+    }
+    try {
+      pump();
+    } catch (Exception e) {
+      // part of the result has been sent already
+      response.reset();
+    }
+  }
+
+  private void step() throws IOException {
+    final Frame frame = stack.peek();
+    if (!frame.iterator.hasNext()) {
+      stack.pop();
+      if (frame.object) {
+        gen.writeEndObject();
+      } else {
+        gen.writeEndArray();
+      }
+      return;
+    }
+    final Object next = frame.iterator.next();
+    if (frame.object) {
+      final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) next;
+      gen.writeFieldName(String.valueOf(entry.getKey()));
+      writeValue(entry.getValue());
+    } else {
+      writeValue(next);
+    }
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      gen.writeNull();
+    } else if (value instanceof Map) {
+      gen.writeStartObject();
+      stack.push(new Frame(((Map<?, ?>) value).entrySet().iterator(), true));
+    } else if (value instanceof List) {
+      gen.writeStartArray();
+      stack.push(new Frame(((List<?>) value).iterator(), false));
+    } else if (value instanceof CharSequence) {
+      gen.writeString(value.toString());
+    } else if (value instanceof Boolean) {
+      gen.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      gen.writeNumber(((Number) value).intValue());
+    } else if (value instanceof Long) {
+      gen.writeNumber((Long) value);
+    } else if (value instanceof Double) {
+      gen.writeNumber((Double) value);
+    } else if (value instanceof Float) {
+      gen.writeNumber((Float) value);
+    } else if (value instanceof BigInteger) {
+      gen.writeNumber((BigInteger) value);
+    } else if (value instanceof BigDecimal) {
+      gen.writeNumber((BigDecimal) value);
+    } else if (value instanceof JsonObject) {
+      writeValue(((JsonObject) value).getMap());
+    } else if (value instanceof JsonArray) {
+      writeValue(((JsonArray) value).getList());
+    } else {
+      // custom scalars, let the Vert.x JSON codec encode them as JsonObject would
+      gen.writeRawValue(Json.encode(value));
+    }
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.appendByte((byte) b);
+    flushChunk();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    buffer.appendBytes(b, off, len);
+    flushChunk();
+  }
+
+  private void flushChunk() {
+    if (chunkSize > 0 && buffer.length() >= chunkSize) {
+      if (!response.headWritten()) {
+        response.setChunked(true);
+      }
+      response.write(buffer);
+      buffer = Buffer.buffer(chunkSize);
+    }
+  }
+
+  private static final class Frame {
+
+    final Iterator<?> iterator;
+    // whether the iterator is over the entries of a map
+    final boolean object;
+
+    Frame(Iterator<?> iterator, boolean object) {
+      this.iterator = iterator;
+      this.object = object;
+    }
+  }
+}
@@ -17,14 +17,15 @@
 package io.vertx.ext.web.handler.graphql.impl;
 
 import graphql.ExecutionInput;
+import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.ext.web.RoutingContext;
@@ -232,13 +233,13 @@ public class GraphQLHandlerImpl implements GraphQLHandler {
   }
 
   private void executeBatch(RoutingContext rc, GraphQLBatch batch) {
-    List<Future<JsonObject>> futures = new ArrayList<>(batch.size());
+    List<Future<Map<String, Object>>> futures = new ArrayList<>(batch.size());
     for (GraphQLQuery graphQLQuery : batch) {
       futures.add(execute(rc, graphQLQuery));
     }
     Future.all(futures)
-      .map(cf -> new JsonArray(cf.list()).toBuffer())
-      .onComplete(ar -> sendResponse(rc, ar));
+      .map(CompositeFuture::<Map<String, Object>>list)
+      .onComplete(ar -> sendResponse(rc, ar, true));
   }
 
   private void handlePostQuery(RoutingContext rc, GraphQLQuery query, String operationName, Map<String, Object> variables, Object initialValue, Map<String, Object> extensions) {
@@ -370,11 +371,11 @@ public class GraphQLHandlerImpl implements GraphQLHandler {
 
   private void executeOne(RoutingContext rc, GraphQLQuery query) {
     execute(rc, query)
-      .map(JsonObject::toBuffer)
-      .onComplete(ar -> sendResponse(rc, ar));
+      .map(Collections::singletonList)
+      .onComplete(ar -> sendResponse(rc, ar, false));
   }
 
-  private Future<JsonObject> execute(RoutingContext rc, GraphQLQuery query) {
+  private Future<Map<String, Object>> execute(RoutingContext rc, GraphQLQuery query) {
     ExecutionInput.Builder builder = ExecutionInput.newExecutionInput();
 
     builder.query(query.getQuery());
@@ -412,7 +413,7 @@ public class GraphQLHandlerImpl implements GraphQLHandler {
     }
 
     return Future.fromCompletionStage(graphQL.executeAsync(builder.build()), rc.vertx().getOrCreateContext())
-      .map(executionResult -> new JsonObject(executionResult.toSpecification()));
+      .map(ExecutionResult::toSpecification);
   }
 
   private String getContentType(RoutingContext rc) {
@@ -447,11 +448,21 @@ public class GraphQLHandlerImpl implements GraphQLHandler {
     }
   }
 
-  private void sendResponse(RoutingContext rc, AsyncResult<Buffer> ar) {
-    if (ar.succeeded()) {
-      rc.response().putHeader(HttpHeaders.CONTENT_TYPE, "application/json").end(ar.result());
-    } else {
+  private void sendResponse(RoutingContext rc, AsyncResult<List<Map<String, Object>>> ar, boolean batch) {
+    if (ar.failed()) {
       rc.fail(ar.cause());
+      return;
+    }
+    HttpServerResponse response = rc.response().putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+    try {
+      new ExecutionResultWriter(response, options.getResponseChunkSize()).end(ar.result(), batch);
+    } catch (Exception e) {
+      if (response.headWritten()) {
+        // part of the result has been sent already
+        response.reset();
+      } else {
+        rc.fail(e);
+      }
     }
   }
 
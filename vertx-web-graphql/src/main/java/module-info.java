@@ -19,6 +19,7 @@ module io.vertx.web.graphql {
   requires static io.vertx.codegen.json;
   requires static io.vertx.docgen;
 
+  requires com.fasterxml.jackson.core;
   requires com.graphqljava;
   requires io.vertx.core;
   requires io.vertx.core.logging;
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.ext.web.handler.graphql.tests;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.handler.graphql.GraphQLHandlerOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedResponsesTest extends GraphQLTestBase {
+
+  @Override
+  protected GraphQLHandlerOptions createOptions() {
+    return super.createOptions()
+      .setRequestBatchingEnabled(true)
+      .setResponseChunkSize(64);
+  }
+
+  @Test
+  public void testChunkedResult() {
+    JsonObject query = new JsonObject()
+      .put("query", "query { allLinks { url } }");
+    var response = webClient.post("/graphql")
+      .sendJsonObject(query)
+      .await();
+    assertEquals(200, response.statusCode());
+    assertEquals("chunked", response.getHeader(HttpHeaders.TRANSFER_ENCODING.toString()));
+    assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH.toString()));
+    assertTrue(testData.checkLinkUrls(testData.urls(), response.bodyAsJsonObject()));
+  }
+
+  @Test
+  public void testChunkedBatch() {
+    JsonObject query = new JsonObject()
+      .put("query", "query { allLinks { url } }");
+    var response = webClient.post("/graphql")
+      .sendBuffer(new JsonArray().add(query).add(query).toBuffer())
+      .await();
+    assertEquals(200, response.statusCode());
+    assertEquals("chunked", response.getHeader(HttpHeaders.TRANSFER_ENCODING.toString()));
+    JsonArray results = response.bodyAsJsonArray();
+    assertEquals(2, results.size());
+    assertTrue(testData.checkLinkUrls(testData.urls(), results.getJsonObject(0)));
+    assertTrue(testData.checkLinkUrls(testData.urls(), results.getJsonObject(1)));
+  }
+
+  @Test
+  public void testChunkedResultOnDrain() {
+    // the write queue is full after each chunk, the serialization resumes when the response is drained
+    router.route("/graphql").order(50).handler(rc -> {
+      rc.response().setWriteQueueMaxSize(1);
+      rc.next();
+    });
+    JsonObject query = new JsonObject()
+      .put("query", "query { allLinks { url } }");
+    var response = webClient.post("/graphql")
+      .sendBuffer(new JsonArray().add(query).add(query).add(query).toBuffer())
+      .await();
+    assertEquals(200, response.statusCode());
+    assertEquals("chunked", response.getHeader(HttpHeaders.TRANSFER_ENCODING.toString()));
+    JsonArray results = response.bodyAsJsonArray();
+    assertEquals(3, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertTrue(testData.checkLinkUrls(testData.urls(), results.getJsonObject(i)));
+    }
+  }
+
+  @Test
+  public void testSmallResultNotChunked() {
+    var response = webClient.post("/graphql")
+      .sendBuffer(new JsonArray().toBuffer())
+      .await();
+    assertEquals(200, response.statusCode());
+    assertEquals("2", response.getHeader(HttpHeaders.CONTENT_LENGTH.toString()));
+    assertTrue(response.bodyAsJsonArray().isEmpty());
+  }
+}
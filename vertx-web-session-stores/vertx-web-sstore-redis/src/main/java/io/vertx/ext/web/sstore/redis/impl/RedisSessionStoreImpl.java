@@ -23,15 +23,26 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.prng.VertxContextPRNG;
 import io.vertx.ext.web.Session;
-import io.vertx.ext.web.sstore.AbstractSession;
 import io.vertx.ext.web.sstore.SessionStore;
 import io.vertx.ext.web.sstore.impl.SharedDataSessionImpl;
 import io.vertx.ext.web.sstore.redis.RedisSessionStore;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisOptions;
 import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static io.vertx.redis.client.Command.*;
 import static io.vertx.redis.client.Request.cmd;
@@ -40,6 +51,92 @@ import static io.vertx.redis.client.Request.cmd;
  * @author <a href="https://github.com/llfbandit">Rémy Noël</a>
  */
 public class RedisSessionStoreImpl implements RedisSessionStore {
+
+  // sessions are stored in a hash: the META_FIELD holds the session header (int id length, id bytes, long timeout,
+  // long last accessed, int version, see SharedDataSessionImpl#writeHeaderToBuffer) and each entry is encoded with the
+  // session codec in a DATA_PREFIX + key field. Sessions stored by previous versions are a string with the header
+  // followed by the data.
+  private static final String META_FIELD = "m";
+  private static final String DATA_PREFIX = "d:";
+
+  // the version of the header in m, fails the script with 0 when it isn't ARGV[1]
+  private static final String CHECK_VERSION =
+    "if m then\n" +
+    "  local len = struct.unpack('>i4', m)\n" +
+    "  if struct.unpack('>i4', m, 21 + len) ~= tonumber(ARGV[1]) then\n" +
+    "    return 0\n" +
+    "  end\n" +
+    "end\n";
+
+  /**
+   * Reads the session and PEXPIRE the key with the timeout stored in the session.
+   */
+  private static final String GET_SCRIPT =
+    "local t = redis.call('TYPE', KEYS[1]).ok\n" +
+    "local m = false\n" +
+    "if t == 'hash' then\n" +
+    "  m = redis.call('HGET', KEYS[1], 'm')\n" +
+    "elseif t == 'string' then\n" +
+    "  m = redis.call('GET', KEYS[1])\n" +
+    "end\n" +
+    "if not m then\n" +
+    "  return false\n" +
+    "end\n" +
+    "local len = struct.unpack('>i4', m)\n" +
+    "local timeout = struct.unpack('>i8', m, 5 + len)\n" +
+    "redis.call('PEXPIRE', KEYS[1], timeout)\n" +
+    "if t == 'hash' then\n" +
+    "  return redis.call('HGETALL', KEYS[1])\n" +
+    "end\n" +
+    "return m";
+
+  /**
+   * Replaces the whole session if the stored version matches ARGV[1], ARGV[2] is the timeout and the remaining
+   * arguments are the hash fields and values. Returns 0 on version mismatch.
+   */
+  private static final String PUT_SCRIPT =
+    "local t = redis.call('TYPE', KEYS[1]).ok\n" +
+    "local m = false\n" +
+    "if t == 'hash' then\n" +
+    "  m = redis.call('HGET', KEYS[1], 'm')\n" +
+    "elseif t == 'string' then\n" +
+    "  m = redis.call('GET', KEYS[1])\n" +
+    "end\n" +
+    CHECK_VERSION +
+    "redis.call('DEL', KEYS[1])\n" +
+    "for i = 3, #ARGV, 2 do\n" +
+    "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])\n" +
+    "end\n" +
+    "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n" +
+    "return 1";
+
+  /**
+   * Updates the changed fields of the session if the stored version matches ARGV[1], ARGV[2] is the timeout, ARGV[3]
+   * the header, ARGV[4] the number of removed fields, followed by the removed fields and then the changed fields and
+   * values. Returns 0 on version mismatch and -1 when the session isn't stored as a hash.
+   */
+  private static final String PUT_DELTA_SCRIPT =
+    "if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then\n" +
+    "  return -1\n" +
+    "end\n" +
+    "local m = redis.call('HGET', KEYS[1], 'm')\n" +
+    CHECK_VERSION +
+    "redis.call('HSET', KEYS[1], 'm', ARGV[3])\n" +
+    "local n = tonumber(ARGV[4])\n" +
+    "for i = 5, 4 + n do\n" +
+    "  redis.call('HDEL', KEYS[1], ARGV[i])\n" +
+    "end\n" +
+    "for i = 5 + n, #ARGV, 2 do\n" +
+    "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])\n" +
+    "end\n" +
+    "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n" +
+    "return 1";
+
+  private static final String GET_SHA = sha1(GET_SCRIPT);
+  private static final String PUT_SHA = sha1(PUT_SCRIPT);
+  private static final String PUT_DELTA_SHA = sha1(PUT_DELTA_SCRIPT);
+
+  private final Map<String, Future<Void>> pendingPuts = new ConcurrentHashMap<>();
   private Redis redis;
   private VertxContextPRNG random;
   private long retryTimeout;
@@ -82,18 +179,29 @@ public class RedisSessionStoreImpl implements RedisSessionStore {
 
   @Override
   public Future<@Nullable Session> get(String id) {
-    return redis.send(cmd(GET).arg(id))
+    // read and postpone the expiration time in a single round trip
+    return eval(GET_SCRIPT, GET_SHA, rq -> rq.arg(1).arg(id))
       .compose(response -> {
-        if (response != null) {
-          SharedDataSessionImpl session = new SharedDataSessionImpl(random);
-          session.readFromBuffer(0, response.toBuffer());
-          // postpone expiration time, this cannot be done in a single frame with GET cmd
-          return redis
-            .send(cmd(PEXPIRE).arg(id).arg(session.timeout()))
-            .map(session);
-        } else {
+        if (response == null) {
           return ctx.succeededFuture();
         }
+        SharedDataSessionImpl session = new SharedDataSessionImpl(random);
+        if (response.type() == ResponseType.MULTI) {
+          final Map<String, Buffer> values = new HashMap<>();
+          for (int i = 0; i + 1 < response.size(); i += 2) {
+            final String field = response.get(i).toString();
+            if (META_FIELD.equals(field)) {
+              session.readHeaderFromBuffer(0, response.get(i + 1).toBuffer());
+            } else if (field.startsWith(DATA_PREFIX)) {
+              values.put(field.substring(DATA_PREFIX.length()), response.get(i + 1).toBuffer());
+            }
+          }
+          session.readValuesFromBuffers(values);
+        } else {
+          // stored by a previous version
+          session.readFromBuffer(0, response.toBuffer());
+        }
+        return ctx.succeededFuture(session);
       });
   }
 
@@ -105,36 +213,133 @@ public class RedisSessionStoreImpl implements RedisSessionStore {
 
   @Override
   public Future<Void> put(Session session) {
-    return redis.send(cmd(GET).arg(session.id()))
+    return enqueue(session, null, null);
+  }
+
+  @Override
+  public Future<Void> putDelta(Session session, Set<String> changed, Set<String> removed) {
+    return enqueue(session, changed, removed);
+  }
+
+  private Future<Void> enqueue(Session session, Set<String> changed, Set<String> removed) {
+    final String id = session.id();
+    // puts of a session are applied in order, so the version check only fails for concurrent writers
+    final Future<Void> put = pendingPuts.compute(id, (key, previous) -> previous == null ?
+      writeSession((SharedDataSessionImpl) session, changed, removed) :
+      previous.transform(ar -> writeSession((SharedDataSessionImpl) session, changed, removed)));
+
+    put.onComplete(ar -> pendingPuts.remove(id, put));
+    return put;
+  }
+
+  private Future<Void> writeSession(SharedDataSessionImpl session, Set<String> changed, Set<String> removed) {
+    final int version = session.version();
+    // the stored header holds the next version, the session is only updated once the write succeeded
+    final Buffer header = Buffer.buffer();
+    session.writeHeaderToBuffer(header, session.nextVersion());
+
+    if (changed == null || session.isRegenerated()) {
+      // a regenerated session is stored under a new key, which only a full write can create
+      return putAll(session, version, header);
+    }
+
+    // check the stored version and submit the changed fields & expiration TO in ms, in a single round trip
+    final List<Object> args = new ArrayList<>();
+    args.add(session.id());
+    args.add(version);
+    args.add(session.timeout());
+    args.add(header);
+    args.add(removed.size());
+
+    for (String key : removed) {
+      args.add(DATA_PREFIX + key);
+    }
+    for (String key : changed) {
+      Buffer value = Buffer.buffer();
+      session.writeValueToBuffer(key, value);
+      args.add(DATA_PREFIX + key);
+      args.add(value);
+    }
+
+    return eval(PUT_DELTA_SCRIPT, PUT_DELTA_SHA, rq -> addArgs(rq, args))
       .compose(response -> {
-      AbstractSession newSession = (AbstractSession) session;
-      if (response != null) {
-        // Old session exists, we need to validate versions
-        SharedDataSessionImpl oldSession = new SharedDataSessionImpl(random);
-        oldSession.readFromBuffer(0, response.toBuffer());
-
-        if (oldSession.version() != newSession.version()) {
-          return Future.failedFuture("Session version mismatch");
+        if (response != null && response.toInteger() == -1) {
+          // expired or stored by a previous version, write it all
+          return putAll(session, version, header);
         }
+        return checkVersion(session, response);
+      });
+  }
+
+  private Future<Void> putAll(SharedDataSessionImpl session, int version, Buffer header) {
+    // check the stored version and submit with all session data & expiration TO in ms, in a single round trip
+    final List<Object> args = new ArrayList<>();
+    args.add(session.id());
+    args.add(version);
+    args.add(session.timeout());
+    args.add(META_FIELD);
+    args.add(header);
+
+    if (!session.isEmpty()) {
+      for (String key : session.data().keySet()) {
+        Buffer value = Buffer.buffer();
+        session.writeValueToBuffer(key, value);
+        args.add(DATA_PREFIX + key);
+        args.add(value);
       }
+    }
+    return eval(PUT_SCRIPT, PUT_SHA, rq -> addArgs(rq, args))
+      .compose(response -> checkVersion(session, response));
+  }
 
-      newSession.incrementVersion();
-      return writeSession(newSession);
-    });
+  private static Request addArgs(Request rq, List<Object> args) {
+    // the arguments are kept to send the same values again if the script must be loaded, the key is the first one
+    rq.arg(1);
+    for (Object arg : args) {
+      if (arg instanceof Buffer) {
+        rq.arg((Buffer) arg);
+      } else if (arg instanceof Number) {
+        rq.arg(((Number) arg).longValue());
+      } else {
+        rq.arg((String) arg);
+      }
+    }
+    return rq;
   }
 
-  private Future<Void> writeSession(Session session) {
-    Buffer buffer = Buffer.buffer();
-    SharedDataSessionImpl sessionImpl = (SharedDataSessionImpl) session;
-    sessionImpl.writeToBuffer(buffer);
+  /**
+   * Runs a script by its SHA1, the script is only sent when the server does not know it yet, e.g. after a restart
+   * or a SCRIPT FLUSH, and EVAL loads it for the next calls.
+   */
+  private Future<@Nullable Response> eval(String script, String sha, Function<Request, Request> args) {
+    return redis.send(args.apply(cmd(EVALSHA).arg(sha)))
+      .recover(err -> {
+        if (err.getMessage() != null && err.getMessage().startsWith("NOSCRIPT")) {
+          return redis.send(args.apply(cmd(EVAL).arg(script)));
+        }
+        return ctx.failedFuture(err);
+      });
+  }
 
-    // submit with all session data & expiration TO in ms
-    Request rq = cmd(SET)
-      .arg(session.id()).arg(buffer)
-      .arg("PX").arg(session.timeout());
+  private static String sha1(String script) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder sb = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 
-    return redis.send(rq)
-      .mapEmpty();
+  private Future<Void> checkVersion(SharedDataSessionImpl session, @Nullable Response response) {
+    if (response != null && response.toInteger() == 0) {
+      return ctx.failedFuture("Session version mismatch");
+    }
+    session.incrementVersion();
+    return ctx.succeededFuture();
   }
 
   @Override
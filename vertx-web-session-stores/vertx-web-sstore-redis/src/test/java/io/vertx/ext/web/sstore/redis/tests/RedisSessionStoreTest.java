@@ -2,16 +2,28 @@ package io.vertx.ext.web.sstore.redis.tests;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.shareddata.ClusterSerializable;
+import io.vertx.ext.web.sstore.AbstractSession;
+import io.vertx.ext.web.sstore.SessionCodec;
 import io.vertx.ext.web.sstore.redis.RedisSessionStore;
 import io.vertx.junit5.VertxTest;
+import io.vertx.redis.client.Command;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.Request;
 import org.junit.jupiter.api.*;
 
 import io.vertx.ext.web.Session;
 import io.vertx.ext.web.sstore.SessionStore;
 import org.testcontainers.containers.GenericContainer;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -35,15 +47,29 @@ public class RedisSessionStoreTest {
   }
 
   private SessionStore store;
+  private Redis redis;
+  private final AtomicInteger roundTrips = new AtomicInteger();
 
   @BeforeEach
   public void before(Vertx vertx) {
-    store = RedisSessionStore.create(
-      vertx,
-      Redis.createClient(vertx, new RedisOptions()
-        .setConnectionString("redis://" + container.getHost() + ":" + container.getMappedPort(6379))
-        .setMaxPoolSize(2)
-        .setMaxPoolWaiting(32)));
+    redis = Redis.createClient(vertx, new RedisOptions()
+      .setConnectionString("redis://" + container.getHost() + ":" + container.getMappedPort(6379))
+      .setMaxPoolSize(2)
+      .setMaxPoolWaiting(32));
+
+    // count the commands sent to redis
+    Redis counting = (Redis) Proxy.newProxyInstance(Redis.class.getClassLoader(), new Class<?>[]{Redis.class}, (proxy, method, args) -> {
+      if (method.getName().equals("send") || method.getName().equals("batch")) {
+        roundTrips.incrementAndGet();
+      }
+      try {
+        return method.invoke(redis, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    });
+
+    store = RedisSessionStore.create(vertx, counting);
   }
 
   @AfterEach
@@ -101,6 +127,167 @@ public class RedisSessionStoreTest {
     assertEquals(0, size);
   }
 
+  @Test
+  public void testSingleRoundTrip() {
+    // load the scripts, they are sent once
+    Session warmup = store.createSession(30_000);
+    store.put(warmup).await();
+    store.putDelta(store.get(warmup.id()).await().put("key", "value"), Set.of("key"), Set.of()).await();
+
+    Session session = store.createSession(30_000);
+    String value = session.value();
+
+    roundTrips.set(0);
+    store.put(session).await();
+    assertEquals(1, roundTrips.get());
+
+    roundTrips.set(0);
+    Session sessionGet = store.get(value).await();
+    assertEquals(value, sessionGet.value());
+    assertEquals(1, roundTrips.get());
+
+    sessionGet.put("key", "value");
+    roundTrips.set(0);
+    store.put(sessionGet).await();
+    assertEquals(1, roundTrips.get());
+
+    assertEquals("value", store.get(value).await().get("key"));
+  }
+
+  @Test
+  public void testScriptsFlushed() {
+    Session session = store.createSession(30_000);
+    session.put("key", "value");
+    store.put(session).await();
+
+    // the scripts are sent again when the server lost them
+    redis.send(Request.cmd(Command.SCRIPT).arg("FLUSH")).await();
+    AbstractSession loaded = (AbstractSession) store.get(session.id()).await();
+    assertEquals("value", loaded.get("key"));
+
+    redis.send(Request.cmd(Command.SCRIPT).arg("FLUSH")).await();
+    loaded.put("key", "other");
+    store.putDelta(loaded, loaded.changedKeys(), loaded.removedKeys()).await();
+    assertEquals("other", store.get(session.id()).await().get("key"));
+  }
+
+  @Test
+  public void testPutDelta() {
+    Session session = store.createSession(30_000);
+    session.put("kept", "value");
+    session.put("changed", 1);
+    session.put("removed", true);
+    store.put(session).await();
+
+    AbstractSession loaded = (AbstractSession) store.get(session.id()).await();
+    loaded.put("changed", 2);
+    loaded.remove("removed");
+    loaded.put("added", "new");
+
+    roundTrips.set(0);
+    store.putDelta(loaded, loaded.changedKeys(), loaded.removedKeys()).await();
+    assertEquals(1, roundTrips.get());
+
+    Session stored = store.get(session.id()).await();
+    assertEquals("value", stored.get("kept"));
+    assertEquals(2, (int) stored.get("changed"));
+    assertNull(stored.get("removed"));
+    assertEquals("new", stored.get("added"));
+    assertEquals(3, stored.data().size());
+  }
+
+  @Test
+  public void testPutDeltaModifiedInPlace() {
+    Session session = store.createSession(30_000);
+    session.put("bytes", new byte[]{1, 2, 3});
+    store.put(session).await();
+
+    AbstractSession loaded = (AbstractSession) store.get(session.id()).await();
+    // the hash code of an array does not change when it is modified
+    byte[] bytes = loaded.get("bytes");
+    bytes[0] = 9;
+    assertEquals(Set.of("bytes"), loaded.changedKeys());
+    store.putDelta(loaded, loaded.changedKeys(), loaded.removedKeys()).await();
+
+    byte[] stored = store.get(session.id()).await().get("bytes");
+    assertArrayEquals(new byte[]{9, 2, 3}, stored);
+  }
+
+  @Test
+  public void testReadPreviousFormat() {
+    Session session = store.createSession(30_000);
+    session.put("key", "value");
+    Buffer buffer = Buffer.buffer();
+    ((ClusterSerializable) session).writeToBuffer(buffer);
+    // sessions used to be stored as a single string
+    redis.send(Request.cmd(Command.SET).arg(session.id()).arg(buffer)).await();
+
+    AbstractSession loaded = (AbstractSession) store.get(session.id()).await();
+    assertEquals("value", loaded.get("key"));
+
+    // falls back to a full write
+    loaded.put("key", "other");
+    store.putDelta(loaded, loaded.changedKeys(), loaded.removedKeys()).await();
+    assertEquals("other", store.get(session.id()).await().get("key"));
+  }
+
+  @Test
+  public void testFieldsUseSessionCodec() {
+    Session session = store.createSession(30_000);
+    session.put("key", "value");
+    store.put(session).await();
+
+    Buffer field = redis.send(Request.cmd(Command.HGET).arg(session.id()).arg("d:key")).await().toBuffer();
+    assertTrue(SessionCodec.compact().canDecode(0, field));
+
+    // a field written by a previous version, a type tag followed by the value
+    byte[] bytes = "legacy".getBytes(StandardCharsets.UTF_8);
+    Buffer legacy = Buffer.buffer().appendByte((byte) 9).appendInt(bytes.length).appendBytes(bytes);
+    redis.send(Request.cmd(Command.HSET).arg(session.id()).arg("d:other").arg(legacy)).await();
+
+    Session loaded = store.get(session.id()).await();
+    assertEquals("value", loaded.get("key"));
+    assertEquals("legacy", loaded.get("other"));
+  }
+
+  @Test
+  public void testVersionMismatch() {
+    Session session = store.createSession(30_000);
+    store.put(session).await();
+
+    Session first = store.get(session.id()).await();
+    Session second = store.get(session.id()).await();
+
+    first.put("key", "first");
+    store.put(first).await();
+
+    second.put("key", "second");
+    int version = ((AbstractSession) second).version();
+    assertThrows(Throwable.class, () -> store.put(second).await());
+    assertEquals("first", store.get(session.id()).await().get("key"));
+    // the failed write does not change the session version
+    assertEquals(version, ((AbstractSession) second).version());
+  }
+
+  @Test
+  public void testPutDeltaRegenerated() {
+    Session session = store.createSession(30_000);
+    session.put("kept", "value");
+    store.put(session).await();
+
+    AbstractSession loaded = (AbstractSession) store.get(session.id()).await();
+    loaded.regenerateId();
+    loaded.put("added", "new");
+
+    roundTrips.set(0);
+    store.putDelta(loaded, loaded.changedKeys(), loaded.removedKeys()).await();
+    assertEquals(1, roundTrips.get());
+
+    Session stored = store.get(loaded.id()).await();
+    assertEquals("value", stored.get("kept"));
+    assertEquals("new", stored.get("added"));
+  }
+
   @Test
   public void testFloodConnection() {
     Session session = store.createSession(30_000);
@@ -31,6 +31,7 @@ import io.vertx.ext.bridge.PermittedOptions;
 import io.vertx.ext.healthchecks.HealthChecks;
 import io.vertx.ext.healthchecks.Status;
 import io.vertx.ext.web.*;
+import io.vertx.ext.web.codec.SseEvent;
 import io.vertx.ext.web.common.template.TemplateEngine;
 import io.vertx.ext.web.handler.*;
 import io.vertx.ext.web.handler.sockjs.SockJSBridgeOptions;
@@ -1541,6 +1542,16 @@ public class WebExamples {
           .end(toJson(books))).onFailure(ctx::fail));
   }
 
+  public void sseHandler(Vertx vertx, Router router) {
+    SseHandler sse = SseHandler.create()
+      .setChannelResolver(ctx -> ctx.pathParam("channel"))
+      .setBackpressurePolicy(SseBackpressurePolicy.DROP);
+    router.get("/events/:channel").handler(sse);
+
+    // events can be sent from any thread
+    vertx.eventBus().<String>consumer("news", msg -> sse.send("news", new SseEvent(null, "news", msg.body(), 0)));
+  }
+
   private Future<List<Book>> findBooks() {
     throw new UnsupportedOperationException();
   }
@@ -45,6 +45,14 @@ public enum LoggerFormat {
    */
   TINY,
 
+  /**
+   * One JSON object per request, using the Elastic Common Schema field names: {@code @timestamp}, {@code client.address},
+   * {@code http.request.method}, {@code url.original}, {@code http.version}, {@code http.response.status_code},
+   * {@code http.response.body.bytes}, {@code http.request.referrer}, {@code user_agent.original}, {@code user.name} and
+   * {@code event.duration} in nanoseconds. Absent values are omitted.
+   */
+  JSON,
+
   /**
    * Will use user defined formatter function.
    */
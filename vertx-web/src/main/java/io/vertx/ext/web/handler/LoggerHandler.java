@@ -64,6 +64,21 @@ public interface LoggerHandler extends PlatformHandler {
     return new LoggerHandlerImpl(immediate, format);
   }
 
+  /**
+   * Log the messages on a worker thread instead of the thread handling the request. The messages are held in a queue
+   * of the given size, a message is dropped when the queue is full.
+   *
+   * @param queueSize the size of the queue, {@code 0} logs on the thread handling the request
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  LoggerHandler asyncLogging(int queueSize);
+
+  /**
+   * @return the number of messages dropped because the asynchronous logging queue was full
+   */
+  long droppedMessages();
+
   /**
    * Set the custom formatter to be used by the handler.
    *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * What a {@link SseHandler} does with the events of a connection whose write queue is full.
+ */
+@VertxGen
+public enum SseBackpressurePolicy {
+
+  /**
+   * The events are not sent to the connection, the client misses them.
+   */
+  DROP,
+
+  /**
+   * The events are held until the connection drains, up to the max number of buffered events, past which the
+   * connection is closed. The client can then reconnect and replay the missed events.
+   */
+  BUFFER,
+
+  /**
+   * The connection is closed. The client can then reconnect and replay the missed events.
+   */
+  DISCONNECT
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.codec.SseEvent;
+import io.vertx.ext.web.handler.impl.SseHandlerImpl;
+
+import java.util.function.Function;
+
+/**
+ * A handler for Server-Sent Events.
+ * <p>
+ * Each request subscribes to a channel and is answered with an event stream which stays open. The events sent to a
+ * channel are encoded once and the same buffer is written to all of its subscribers. The latest events of a channel
+ * are retained, so a client reconnecting with a {@code Last-Event-ID} header is sent the events it missed.
+ * <p>
+ * A channel exists while it has subscribers, a channel with retained events is kept for the clients reconnecting
+ * after its last subscriber left, see {@link #setEmptyChannelTimeout(long)}.
+ * <p>
+ * The handler ends the request, it must be the last handler of its route.
+ */
+@VertxGen
+public interface SseHandler extends Handler<RoutingContext> {
+
+  /**
+   * The channel requests subscribe to when no channel resolver is set
+   */
+  String DEFAULT_CHANNEL = "default";
+
+  /**
+   * Default number of events retained by each channel for replay
+   */
+  int DEFAULT_REPLAY_SIZE = 128;
+
+  /**
+   * Default backpressure policy
+   */
+  SseBackpressurePolicy DEFAULT_BACKPRESSURE_POLICY = SseBackpressurePolicy.BUFFER;
+
+  /**
+   * Default max number of events buffered for a connection whose write queue is full
+   */
+  int DEFAULT_MAX_BUFFERED_EVENTS = 256;
+
+  /**
+   * Default time a channel without subscribers keeps its retained events, in milliseconds
+   */
+  long DEFAULT_EMPTY_CHANNEL_TIMEOUT = 30_000;
+
+  /**
+   * Create a handler
+   *
+   * @return the handler
+   */
+  static SseHandler create() {
+    return new SseHandlerImpl();
+  }
+
+  /**
+   * Set the function resolving the channel a request subscribes to, e.g. from a path parameter.
+   *
+   * @param channelResolver the channel resolver
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler setChannelResolver(Function<RoutingContext, String> channelResolver);
+
+  /**
+   * Set what is done with the events of a connection whose write queue is full.
+   *
+   * @param backpressurePolicy the backpressure policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler setBackpressurePolicy(SseBackpressurePolicy backpressurePolicy);
+
+  /**
+   * Set the max number of events buffered for a connection with the {@link SseBackpressurePolicy#BUFFER} policy.
+   *
+   * @param maxBufferedEvents the max number of buffered events
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler setMaxBufferedEvents(int maxBufferedEvents);
+
+  /**
+   * Set the number of events retained by each channel, replayed to the clients reconnecting with a
+   * {@code Last-Event-ID} header. This applies to the channels created afterwards.
+   *
+   * @param replaySize the number of retained events, {@code 0} disables the replay
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler setReplaySize(int replaySize);
+
+  /**
+   * Set how long a channel keeps its retained events once its last subscriber left, so the clients reconnecting can
+   * replay them. The channel is then removed.
+   *
+   * @param emptyChannelTimeout the timeout in milliseconds, {@code 0} removes the channel right away
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler setEmptyChannelTimeout(long emptyChannelTimeout);
+
+  /**
+   * Send an event to the subscribers of a channel. An event without id is given the next sequence number of the
+   * channel, so it can be replayed. The event is dropped when the channel does not exist. This can be called from any
+   * thread.
+   *
+   * @param channel the channel
+   * @param event the event
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler send(String channel, SseEvent event);
+
+  /**
+   * @param channel the channel
+   * @return the number of subscribers of the channel
+   */
+  int subscribers(String channel);
+
+  /**
+   * Close the event streams of a channel subscribers and drop its retained events.
+   *
+   * @param channel the channel
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SseHandler close(String channel);
+}
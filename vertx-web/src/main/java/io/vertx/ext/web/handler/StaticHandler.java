@@ -117,6 +117,11 @@ public interface StaticHandler extends Handler<RoutingContext> {
    */
   boolean DEFAULT_SEND_VARY_HEADER = true;
 
+  /**
+   * Default of whether precompressed sibling files should be served
+   */
+  boolean DEFAULT_SERVE_PRECOMPRESSED = false;
+
   /**
    * Create a handler using defaults
    *
@@ -253,6 +258,88 @@ public interface StaticHandler extends Handler<RoutingContext> {
   @Fluent
   StaticHandler skipCompressionForSuffixes(Set<String> fileSuffixes);
 
+  /**
+   * Set whether precompressed sibling files should be served. When the client accepts the encoding, a file is sent
+   * from its {@code .br}, {@code .zst} or {@code .gz} sibling, in this order of preference, with the matching
+   * {@code Content-Encoding} header.
+   *
+   * @param servePrecompressed true to serve precompressed files
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setServePrecompressed(boolean servePrecompressed);
+
+  /**
+   * Set a directory where the gzip compressed variants of the files are cached. A file is compressed on its first
+   * request, on a worker thread, and then sent from the cache to the clients accepting gzip. Files whose compression
+   * is skipped are not cached.
+   *
+   * @param cacheDirectory the directory of the compressed variants, or {@code null} to disable the cache
+   * @param maxCacheSize the max total size of the compressed variants, in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setCompressedFileCache(String cacheDirectory, long maxCacheSize);
+
+  /**
+   * Set a memory cache for the content of small files. A file is loaded on its first request and then sent from memory
+   * with its {@code Last-Modified} and {@code Content-Length} headers computed once, until the file properties in the
+   * cache show that it has been modified. The file is sent with the same validators as when it is sent from the file
+   * system, an {@code ETag} is only sent when {@link #setContentHashETags(boolean) content hash entity tags} are
+   * enabled.
+   *
+   * @param maxFileSize the max size of a cached file, in bytes, or {@code 0} to disable the cache
+   * @param maxCacheSize the max total size of the cached files, in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setMemoryCache(int maxFileSize, long maxCacheSize);
+
+  /**
+   * Set whether the web root should be watched for changes. The cached file properties and contents are then
+   * invalidated when the files change, and only expire after the longer of the cache entry timeout and ten minutes in
+   * case a change is missed. The web root must be a directory of the file system, possibly on the classpath. The
+   * watcher is closed along with the deployment the handler first serves a request in, or with another call to this
+   * method.
+   *
+   * @param watchFileSystem true to watch the web root
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setWatchFileSystem(boolean watchFileSystem);
+
+  /**
+   * Set whether files should be sent with a strong {@code ETag} computed from a hash of their content. The hash of a
+   * file is computed on a worker thread on its first request, so the tag is sent from the next requests. Conditional
+   * requests matching the tag are answered with {@code 304} without accessing the file.
+   *
+   * @param contentHashETags true to send content hash entity tags
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setContentHashETags(boolean contentHashETags);
+
+  /**
+   * Set a manifest file where the content hashes are persisted, so they are not computed again after a restart, or
+   * built ahead of time. The manifest is read when this is set and written at most once per second, with the hashes
+   * computed in the meantime.
+   *
+   * @param manifestFile the manifest file, or {@code null} to keep the hashes in memory only
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setETagManifest(String manifestFile);
+
+  /**
+   * Set a pattern of request paths of fingerprinted files, whose name changes with their content. These files are
+   * sent with {@code Cache-Control: public, max-age=31536000, immutable}.
+   *
+   * @param regex the pattern of the request paths, or {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  StaticHandler setImmutableFilePattern(String regex);
+
   /**
    * Set whether async filesystem access should always be used
    *
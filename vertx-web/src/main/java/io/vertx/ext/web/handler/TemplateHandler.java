@@ -22,6 +22,8 @@ import io.vertx.ext.web.handler.impl.TemplateHandlerImpl;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.common.template.TemplateEngine;
 
+import java.util.function.Function;
+
 /**
  *
  * A handler which renders responses using a template engine and where the template name is selected from the URI
@@ -57,6 +59,20 @@ public interface TemplateHandler extends Handler<RoutingContext> {
   @Fluent
   TemplateHandler setIndexTemplate(String indexTemplate);
 
+  /**
+   * Cache the rendered output of the templates. The output is cached per template and per key, the key being computed
+   * for each request from the routing context, so requests with the same key must render the same output. The
+   * cached output is served with an {@code ETag} header, and is invalidated when the template file is modified.
+   *
+   * @param cacheKey  the function computing the key of a request, returning {@code null} when the output must not
+   *                  be cached
+   * @param maxAgeSeconds  the time after which the cached output is rendered again
+   * @param maxSize  the maximum number of cached outputs
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  TemplateHandler setRenderCache(Function<RoutingContext, String> cacheKey, long maxAgeSeconds, int maxSize);
+
   /**
    * Create a handler
    *
@@ -38,6 +38,11 @@ public interface TimeoutHandler extends PlatformHandler {
    */
   int DEFAULT_ERRORCODE = 503;
 
+  /**
+   * The default resolution of the timeouts, in ms
+   */
+  long DEFAULT_RESOLUTION = 100;
+
   /**
    * Create a handler
    *
@@ -66,4 +71,23 @@ public interface TimeoutHandler extends PlatformHandler {
   static TimeoutHandler create(long timeout, int errorCode) {
     return new TimeoutHandlerImpl(timeout, errorCode);
   }
+
+  /**
+   * Create a handler. The timeouts of the requests handled on an event loop are tracked by a timing wheel ticking at
+   * the given resolution, instead of a timer per request. A request times out after the timeout, at most two ticks
+   * late.
+   *
+   * @param timeout  the timeout, in ms
+   * @param errorCode  the error code
+   * @param resolution  the resolution of the timeouts, in ms, or {@code 0} for a timer per request
+   * @return the handler
+   */
+  static TimeoutHandler create(long timeout, int errorCode, long resolution) {
+    return new TimeoutHandlerImpl(timeout, errorCode, resolution);
+  }
+
+  /**
+   * @return the number of requests which have timed out
+   */
+  long timeoutCount();
 }
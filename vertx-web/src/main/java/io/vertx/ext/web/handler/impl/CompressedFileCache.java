@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.ext.web.impl.ConcurrentLRUCache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A bounded on-disk cache of the gzip compressed variants of static files, so a file is compressed once and then sent
+ * with {@code sendFile} instead of being compressed by the server for every response.
+ * <p>
+ * The variants are evicted in approximate least recently used order once their total size exceeds the max size, and
+ * compressed again when the file size or modification time changes. The lookups are lock free, only a miss takes the
+ * lock of the compressions in progress.
+ */
+final class CompressedFileCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompressedFileCache.class);
+
+  /**
+   * Files smaller than this are not worth compressing.
+   */
+  static final long MIN_FILE_SIZE = 1024;
+
+  private final File directory;
+  private final long maxSize;
+  private final AtomicLong sequence = new AtomicLong();
+  private final ConcurrentLRUCache<String, Variant> variants;
+  // the files of the evicted variants, deleted by the thread which put the variant evicting them
+  private final Queue<String> evicted = new ConcurrentLinkedQueue<>();
+  // guarded by this
+  private final Map<String, Future<Variant>> inProgress = new HashMap<>();
+
+  CompressedFileCache(String directory, long maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be >= 1");
+    }
+    this.directory = new File(directory);
+    this.maxSize = maxSize;
+    // the files not worth compressing have no size, they weigh 1 so they are evicted as well
+    this.variants = new ConcurrentLRUCache<>(maxSize, variant -> Math.max(variant.size, 1), variant -> {
+      if (variant.path != null) {
+        evicted.add(variant.path);
+      }
+    });
+  }
+
+  /**
+   * Get the compressed variant of a file, compressing it on a worker thread when it is not in the cache.
+   *
+   * @return the variant, or {@code null} when the compressed file would not be smaller
+   */
+  Future<Variant> get(Vertx vertx, String file, FileProps props) {
+    final Variant variant = variants.get(file);
+    if (variant != null && variant.isFor(props)) {
+      return Future.succeededFuture(variant.path == null ? null : variant);
+    }
+    final Promise<Variant> promise;
+    synchronized (this) {
+      Future<Variant> pending = inProgress.get(file);
+      if (pending != null) {
+        return pending;
+      }
+      promise = Promise.promise();
+      inProgress.put(file, promise.future());
+    }
+
+    vertx
+      .executeBlocking(() -> compress(vertx, file, props), false)
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          // put before the compression is no longer in progress, so a concurrent request does not compress again
+          variants.put(file, ar.result());
+          deleteEvicted(vertx);
+        }
+        synchronized (this) {
+          inProgress.remove(file);
+        }
+        if (ar.succeeded()) {
+          promise.complete(ar.result().path == null ? null : ar.result());
+        } else {
+          LOG.debug("Could not compress " + file, ar.cause());
+          promise.complete(null);
+        }
+      });
+
+    return promise.future();
+  }
+
+  private Variant compress(Vertx vertx, String file, FileProps props) throws IOException {
+    // the file may be a classpath resource, so it is read with the vert.x file system
+    final Buffer data = vertx.fileSystem().readFileBlocking(file);
+    if (!directory.exists() && !directory.mkdirs() && !directory.isDirectory()) {
+      throw new IOException("Cannot create " + directory);
+    }
+    final File target = new File(directory, Long.toHexString(sequence.incrementAndGet()) + ".gz");
+    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(target), 8192)) {
+      out.write(data.getBytes());
+    }
+    final long length = target.length();
+    if (length >= data.length() || length > maxSize) {
+      // incompressible or too large, remember it so it is not compressed again
+      target.delete();
+      return new Variant(null, 0, props.size(), props.lastModifiedTime());
+    }
+    return new Variant(target.getPath(), length, props.size(), props.lastModifiedTime());
+  }
+
+  private void deleteEvicted(Vertx vertx) {
+    String path;
+    while ((path = evicted.poll()) != null) {
+      // a response may still be sending the file, which is fine on posix file systems
+      vertx.fileSystem().delete(path);
+    }
+  }
+
+  static final class Variant {
+
+    final String path;
+    final long size;
+    private final long fileSize;
+    private final long fileLastModified;
+
+    private Variant(String path, long size, long fileSize, long fileLastModified) {
+      this.path = path;
+      this.size = size;
+      this.fileSize = fileSize;
+      this.fileLastModified = fileLastModified;
+    }
+
+    boolean isFor(FileProps props) {
+      return fileSize == props.size() && fileLastModified == props.lastModifiedTime();
+    }
+  }
+}
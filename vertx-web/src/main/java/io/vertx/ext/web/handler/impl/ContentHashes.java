@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.json.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Strong entity tags of the static files, computed from a SHA-256 hash of their content.
+ * <p>
+ * A hash is computed once per version of a file, identified by its size and modification time, on a worker thread.
+ * The tags can be persisted to a manifest, so they are not computed again when the server restarts. The manifest is
+ * written at most once per second, with all the hashes computed in the meantime.
+ */
+final class ContentHashes {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ContentHashes.class);
+
+  private static final long PERSIST_DELAY = 1000;
+
+  private final Map<String, Hash> hashes = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> inProgress = new ConcurrentHashMap<>();
+  private final Path manifest;
+  private final AtomicBoolean persistScheduled = new AtomicBoolean();
+
+  ContentHashes(String manifest) {
+    this.manifest = manifest == null ? null : Paths.get(manifest);
+    if (this.manifest != null && Files.exists(this.manifest)) {
+      try {
+        final JsonObject json = new JsonObject(Buffer.buffer(Files.readAllBytes(this.manifest)));
+        for (String file : json.fieldNames()) {
+          final JsonObject hash = json.getJsonObject(file);
+          hashes.put(file, new Hash(hash.getLong("size"), hash.getLong("lastModified"), hash.getString("etag")));
+        }
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Cannot read the ETag manifest " + manifest, e);
+      }
+    }
+  }
+
+  /**
+   * Get the entity tag of a file, computing it in the background when it is not known yet.
+   *
+   * @return the quoted entity tag, or {@code null} when it is not known yet
+   */
+  String etag(Vertx vertx, String file, FileProps props) {
+    final Hash hash = hashes.get(file);
+    if (hash != null && hash.size == props.size() && hash.lastModified == props.lastModifiedTime()) {
+      return hash.etag;
+    }
+    if (inProgress.putIfAbsent(file, Boolean.TRUE) == null) {
+      vertx
+        .executeBlocking(() -> {
+          hashes.put(file, new Hash(props.size(), props.lastModifiedTime(), hash(vertx, file)));
+          return null;
+        }, false)
+        .onComplete(ar -> {
+          inProgress.remove(file);
+          if (ar.failed()) {
+            LOG.debug("Cannot hash " + file, ar.cause());
+          } else if (manifest != null) {
+            schedulePersist(vertx);
+          }
+        });
+    }
+    return null;
+  }
+
+  private static String hash(Vertx vertx, String file) throws IOException {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    // the file may be a classpath resource
+    final File resolved = ((VertxInternal) vertx).fileResolver().resolve(file);
+    try (InputStream in = Files.newInputStream(resolved.toPath())) {
+      final byte[] chunk = new byte[8192];
+      int read;
+      while ((read = in.read(chunk)) != -1) {
+        digest.update(chunk, 0, read);
+      }
+    }
+    return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+  }
+
+  private void schedulePersist(Vertx vertx) {
+    if (persistScheduled.compareAndSet(false, true)) {
+      vertx.setTimer(PERSIST_DELAY, id -> vertx
+        .executeBlocking(() -> {
+          // the hashes computed while writing schedule another write
+          persistScheduled.set(false);
+          persist();
+          return null;
+        }, false)
+        .onFailure(err -> LOG.warn("Cannot write the ETag manifest " + manifest, err)));
+    }
+  }
+
+  private synchronized void persist() throws IOException {
+    final JsonObject json = new JsonObject();
+    hashes.forEach((file, hash) -> json.put(file, new JsonObject()
+      .put("size", hash.size)
+      .put("lastModified", hash.lastModified)
+      .put("etag", hash.etag)));
+    final Path tmp = manifest.resolveSibling(manifest.getFileName() + ".tmp");
+    Files.write(tmp, json.toBuffer().getBytes());
+    Files.move(tmp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Find the entity tag of a representation of the file in an {@code If-None-Match} header, the compressed
+   * representations having the encoding appended to the tag of the file.
+   *
+   * @param encodings the encodings of the compressed representations the handler sends
+   * @return the matching entity tag, or {@code null}
+   */
+  static String match(String ifNoneMatch, String etag, Collection<String> encodings) {
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals(etag)) {
+        return tag;
+      }
+      for (String encoding : encodings) {
+        if (tag.equals(encoded(etag, encoding))) {
+          return tag;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the entity tag of a compressed representation of the file
+   */
+  static String encoded(String etag, String encoding) {
+    return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+  }
+
+  private static final class Hash {
+
+    final long size;
+    final long lastModified;
+    final String etag;
+
+    private Hash(long size, long lastModified, String etag) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.etag = etag;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Closeable;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a directory tree and reports the paths of the files created, modified or deleted in it, relative to the
+ * root of the tree and with {@code /} separators. The root itself, reported as the empty path, stands for any file
+ * when the changes could not be tracked.
+ * <p>
+ * The watcher runs until it is closed, either by its owner or by the close hook registered with
+ * {@link #closeWith(ContextInternal)} when the deployment or the Vert.x instance it has been bound to is closed.
+ */
+final class FileSystemWatcher implements Runnable, Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileSystemWatcher.class);
+
+  private final Path root;
+  private final Consumer<String> onChange;
+  private final WatchService watchService;
+  private final AtomicReference<ContextInternal> boundTo = new AtomicReference<>();
+  private volatile boolean closed;
+
+  FileSystemWatcher(Path root, Consumer<String> onChange) throws IOException {
+    this.root = root;
+    this.onChange = onChange;
+    this.watchService = FileSystems.getDefault().newWatchService();
+    register(root);
+    Thread thread = new Thread(this, "vert.x-web-static-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void register(Path dir) throws IOException {
+    Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (true) {
+        final WatchKey key = watchService.take();
+        final Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            onChange.accept("");
+            continue;
+          }
+          final Path changed = dir.resolve((Path) event.context());
+          if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+            try {
+              register(changed);
+            } catch (IOException e) {
+              LOG.warn("Cannot watch " + changed, e);
+            }
+          }
+          onChange.accept(relativize(changed));
+        }
+        if (!key.reset() && dir.equals(root)) {
+          // the root has been deleted
+          onChange.accept("");
+          return;
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // closed
+    }
+  }
+
+  private String relativize(Path path) {
+    final String relative = root.relativize(path).toString();
+    return path.getFileSystem().getSeparator().equals("/") ? relative : relative.replace(path.getFileSystem().getSeparator(), "/");
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Close the watcher when the context is closed, only the first context the watcher is bound to is used.
+   */
+  void closeWith(ContextInternal context) {
+    if (!closed && boundTo.get() == null && boundTo.compareAndSet(null, context)) {
+      context.addCloseHook(this);
+    }
+  }
+
+  @Override
+  public void close(Promise<Void> completion) {
+    close();
+    completion.complete();
+  }
+
+  void close() {
+    closed = true;
+    final ContextInternal context = boundTo.getAndSet(null);
+    if (context != null) {
+      context.removeCloseHook(this);
+    }
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOG.debug("Cannot close the watch service", e);
+    }
+  }
+}
@@ -28,7 +28,16 @@ import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.LoggerFormat;
 import io.vertx.ext.web.handler.LoggerFormatter;
 import io.vertx.ext.web.handler.LoggerHandler;
-import io.vertx.ext.web.impl.Utils;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /** # Logger
  *
@@ -37,6 +46,7 @@ import io.vertx.ext.web.impl.Utils;
  * 2. COMBINED
  * 3. SHORT
  * 4. TINY
+ * 5. JSON
  *
  * Default tries to log in a format similar to Apache log format, while the other 2 are more suited to development mode.
  * The logging depends on Vert.x logger settings and the severity of the error, so for errors with status greater or
@@ -49,6 +59,13 @@ public class LoggerHandlerImpl implements LoggerHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(LoggerHandler.class);
 
+  private static final PerSecondDateFormat RFC1123_DATE = new PerSecondDateFormat(DateTimeFormatter.RFC_1123_DATE_TIME, ZoneId.of("GMT"));
+  private static final PerSecondDateFormat STRFTIME_DATE = new PerSecondDateFormat(DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z").withLocale(Locale.US), ZoneId.systemDefault());
+  private static final PerSecondDateFormat ISO_DATE = new PerSecondDateFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"), ZoneOffset.UTC);
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final int DRAIN_BATCH_SIZE = 64;
+
   /** log before request or after
    */
   private final boolean immediate;
@@ -59,6 +76,13 @@ public class LoggerHandlerImpl implements LoggerHandler {
 
   private LoggerFormatter logFormatter;
 
+  /** the messages waiting to be logged when logging asynchronously, null when logging on the calling thread, it may be
+   * replaced while requests are logged
+   */
+  private volatile ArrayBlockingQueue<Entry> queue;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final LongAdder dropped = new LongAdder();
+
   public LoggerHandlerImpl(boolean immediate, LoggerFormat format) {
     this.immediate = immediate;
     this.format = format;
@@ -106,34 +130,26 @@ public class LoggerHandlerImpl implements LoggerHandler {
     final MultiMap headers = request.headers();
     int status = request.response().getStatusCode();
     String message = null;
-    String referrer = null;
-    String userAgent = null;
+    String referrer;
+    String userAgent;
+    StringBuilder sb;
 
     switch (format) {
       case DEFAULT:
-        // as per RFC1945 the header is referer but it is not mandatory some implementations use referrer
-        referrer = headers.contains("referrer") ? headers.get("referrer") : headers.get("referer");
-        userAgent = request.headers().get("user-agent");
-        referrer = referrer == null ? "-" : referrer;
-        userAgent = userAgent == null ? "-" : userAgent;
-
-        message = String.format("%s - - [%s] \"%s %s %s\" %d %d \"%s\" \"%s\"",
-          remoteClient,
-          Utils.formatRFC1123DateTime(timestamp),
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          referrer,
-          userAgent);
+        referrer = referrer(headers);
+        userAgent = headers.get("user-agent");
+
+        sb = new StringBuilder(128);
+        sb.append(remoteClient).append(" - - [").append(RFC1123_DATE.format(timestamp)).append("] \"")
+          .append(method).append(' ').append(uri).append(' ').append(versionFormatted).append("\" ")
+          .append(status).append(' ').append(contentLength)
+          .append(" \"").append(referrer == null ? "-" : referrer)
+          .append("\" \"").append(userAgent == null ? "-" : userAgent).append('"');
+        message = sb.toString();
         break;
       case COMBINED:
-        // as per RFC1945 the header is referer but it is not mandatory some implementations use referrer
-        referrer = headers.contains("referrer") ? headers.get("referrer") : headers.get("referer");
-        userAgent = request.headers().get("user-agent");
-        referrer = referrer == null ? "-" : referrer;
-        userAgent = userAgent == null ? "-" : userAgent;
+        referrer = referrer(headers);
+        userAgent = headers.get("user-agent");
 
         User user = context.user();
         String userId = "-";
@@ -149,35 +165,29 @@ public class LoggerHandlerImpl implements LoggerHandler {
           }
         }
 
-        message = String.format("%s - %s [%s] \"%s %s %s\" %d %d \"%s\" \"%s\"",
-          remoteClient,
-          userId,
-          Utils.formatStrftimeDateTime(timestamp),
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          referrer,
-          userAgent);
+        sb = new StringBuilder(128);
+        sb.append(remoteClient).append(" - ").append(userId).append(" [").append(STRFTIME_DATE.format(timestamp)).append("] \"")
+          .append(method).append(' ').append(uri).append(' ').append(versionFormatted).append("\" ")
+          .append(status).append(' ').append(contentLength)
+          .append(" \"").append(referrer == null ? "-" : referrer)
+          .append("\" \"").append(userAgent == null ? "-" : userAgent).append('"');
+        message = sb.toString();
         break;
       case SHORT:
-        message = String.format("%s - %s %s %s %d %d - %d ms",
-          remoteClient,
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          (System.currentTimeMillis() - timestamp));
+        sb = new StringBuilder(64);
+        sb.append(remoteClient).append(" - ").append(method).append(' ').append(uri).append(' ').append(versionFormatted)
+          .append(' ').append(status).append(' ').append(contentLength)
+          .append(" - ").append(System.currentTimeMillis() - timestamp).append(" ms");
+        message = sb.toString();
         break;
       case TINY:
-        message = String.format("%s %s %d %d - %d ms",
-          method,
-          uri,
-          status,
-          contentLength,
-          (System.currentTimeMillis() - timestamp));
+        sb = new StringBuilder(48);
+        sb.append(method).append(' ').append(uri).append(' ').append(status).append(' ').append(contentLength)
+          .append(" - ").append(System.currentTimeMillis() - timestamp).append(" ms");
+        message = sb.toString();
+        break;
+      case JSON:
+        message = json(context, timestamp, remoteClient, versionFormatted, method, uri, status, contentLength);
         break;
       case CUSTOM:
         try {
@@ -188,7 +198,103 @@ public class LoggerHandlerImpl implements LoggerHandler {
           message = e.getMessage();
         }
     }
-    doLog(status, message);
+    final ArrayBlockingQueue<Entry> q = queue;
+    if (q != null) {
+      append(context, q, status, message);
+    } else {
+      doLog(status, message);
+    }
+  }
+
+  private static String referrer(MultiMap headers) {
+    // as per RFC1945 the header is referer but it is not mandatory some implementations use referrer
+    String referrer = headers.get("referrer");
+    return referrer != null ? referrer : headers.get("referer");
+  }
+
+  private static String json(RoutingContext context, long timestamp, String remoteClient, String version, HttpMethod method, String uri, int status, long contentLength) {
+    final MultiMap headers = context.request().headers();
+    StringBuilder sb = new StringBuilder(256);
+    sb.append("{\"@timestamp\":\"").append(ISO_DATE.format(timestamp)).append('.');
+    int millis = (int) Math.floorMod(timestamp, 1000L);
+    if (millis < 100) {
+      sb.append(millis < 10 ? "00" : "0");
+    }
+    sb.append(millis).append("Z\"");
+    jsonField(sb, "client.address", remoteClient);
+    jsonField(sb, "http.request.method", method.name());
+    jsonField(sb, "url.original", uri);
+    jsonField(sb, "http.version", version);
+    sb.append(",\"http.response.status_code\":").append(status);
+    sb.append(",\"http.response.body.bytes\":").append(contentLength);
+    jsonField(sb, "http.request.referrer", referrer(headers));
+    jsonField(sb, "user_agent.original", headers.get("user-agent"));
+    User user = context.user();
+    if (user != null) {
+      jsonField(sb, "user.name", user.subject());
+    }
+    // ECS durations are in nanoseconds
+    sb.append(",\"event.duration\":").append((System.currentTimeMillis() - timestamp) * 1_000_000L);
+    return sb.append('}').toString();
+  }
+
+  private static void jsonField(StringBuilder sb, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    sb.append(",\"").append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+  }
+
+  private void append(RoutingContext context, ArrayBlockingQueue<Entry> q, int status, String message) {
+    if (!q.offer(new Entry(status, message))) {
+      dropped.increment();
+    } else if (draining.compareAndSet(false, true)) {
+      context.vertx().executeBlocking(() -> {
+        drain(q);
+        return null;
+      }, false);
+    }
+  }
+
+  private void drain(ArrayBlockingQueue<Entry> q) {
+    final List<Entry> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+    do {
+      while (q.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+        for (Entry entry : batch) {
+          doLog(entry.status, entry.message);
+        }
+        batch.clear();
+      }
+      draining.set(false);
+      // a message appended before the flag was cleared did not schedule a drain
+    } while (!q.isEmpty() && draining.compareAndSet(false, true));
   }
 
   protected void doLog(int status, String message) {
@@ -219,6 +325,20 @@ public class LoggerHandlerImpl implements LoggerHandler {
     context.next();
   }
 
+  @Override
+  public LoggerHandler asyncLogging(int queueSize) {
+    if (queueSize < 0) {
+      throw new IllegalArgumentException("queueSize must be >= 0");
+    }
+    this.queue = queueSize == 0 ? null : new ArrayBlockingQueue<>(queueSize);
+    return this;
+  }
+
+  @Override
+  public long droppedMessages() {
+    return dropped.sum();
+  }
+
   @Override
   public LoggerHandler customFormatter(LoggerFormatter formatter) {
     if (format != LoggerFormat.CUSTOM) {
@@ -228,4 +348,15 @@ public class LoggerHandlerImpl implements LoggerHandler {
     this.logFormatter = formatter;
     return this;
   }
+
+  private static final class Entry {
+
+    private final int status;
+    private final String message;
+
+    private Entry(int status, String message) {
+      this.status = status;
+      this.message = message;
+    }
+  }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.ext.web.impl.ConcurrentLRUCache;
+import io.vertx.ext.web.impl.Utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded cache of the content of small static files, sent from memory instead of with {@code sendFile}.
+ * <p>
+ * The contents are held in read-only direct buffers shared by all the responses, along with the headers computed once
+ * when the file is loaded. An entry is valid as long as the size and the modification time of the file are the ones
+ * it has been loaded with, the files are evicted in approximate least recently used order once their total size exceeds
+ * the max size. The lookups are lock free, the cache is shared by the event loops.
+ * <p>
+ * No {@code ETag} is computed here, so a file gets the same validators whether it is sent from memory or from the file
+ * system.
+ */
+final class MemoryFileCache {
+
+  private final int maxFileSize;
+  private final ConcurrentLRUCache<String, HotFile> files;
+
+  MemoryFileCache(int maxFileSize, long maxSize) {
+    if (maxFileSize < 1) {
+      throw new IllegalArgumentException("maxFileSize must be >= 1");
+    }
+    if (maxSize < maxFileSize) {
+      throw new IllegalArgumentException("maxSize must be >= maxFileSize");
+    }
+    this.maxFileSize = maxFileSize;
+    this.files = new ConcurrentLRUCache<>(maxSize, hot -> hot.data.length(), null);
+  }
+
+  boolean accepts(FileProps props) {
+    return props.isRegularFile() && props.size() <= maxFileSize;
+  }
+
+  /**
+   * @return the cached file when it is still the same as the file on disk, otherwise {@code null}
+   */
+  HotFile get(String file, FileProps props) {
+    final HotFile hot = files.get(file);
+    if (hot != null && !hot.isFor(props)) {
+      // a newer content may have been put in the meantime
+      files.remove(file, hot);
+      return null;
+    }
+    return hot;
+  }
+
+  void remove(String file) {
+    files.remove(file);
+  }
+
+  void clear() {
+    files.clear();
+  }
+
+  HotFile put(String file, FileProps props, Buffer content, String contentType, boolean identity) {
+    final HotFile hot = new HotFile(props, content, contentType, identity);
+    files.put(file, hot);
+    return hot;
+  }
+
+  static final class HotFile {
+
+    final Buffer data;
+    final long lastModified;
+    final String lastModifiedHeader;
+    final String contentLength;
+    final String contentType;
+    // whether the content encoding is set to identity to skip compression
+    final boolean identity;
+
+    private final long fileSize;
+
+    private HotFile(FileProps props, Buffer content, String contentType, boolean identity) {
+      // allocated by the JDK so the memory is reclaimed by the garbage collector once evicted and sent
+      final ByteBuffer direct = ByteBuffer.allocateDirect(content.length());
+      direct.put(content.getBytes()).flip();
+      // shared by all the responses, which must neither write nor release it
+      this.data = BufferInternal.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(direct.asReadOnlyBuffer())));
+      this.fileSize = props.size();
+      this.lastModified = props.lastModifiedTime();
+      this.lastModifiedHeader = Utils.formatRFC1123DateTime(lastModified);
+      this.contentLength = Integer.toString(content.length());
+      this.contentType = contentType;
+      this.identity = identity;
+    }
+
+    boolean isFor(FileProps props) {
+      return fileSize == props.size() && lastModified == props.lastModifiedTime();
+    }
+  }
+}
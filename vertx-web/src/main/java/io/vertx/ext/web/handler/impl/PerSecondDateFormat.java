@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats timestamps at the second, the formatted date being cached until the next second. Access logs format the
+ * time of each request, which is most of the time in the same second as the previous request.
+ */
+final class PerSecondDateFormat {
+
+  private final DateTimeFormatter formatter;
+  private final ZoneId zone;
+  private volatile Cached cached = new Cached(Long.MIN_VALUE, null);
+
+  PerSecondDateFormat(DateTimeFormatter formatter, ZoneId zone) {
+    this.formatter = formatter;
+    this.zone = zone;
+  }
+
+  String format(long millis) {
+    final long second = Math.floorDiv(millis, 1000);
+    Cached c = cached;
+    if (c.second != second) {
+      // racing threads may format the same second, the result is the same
+      c = new Cached(second, formatter.format(Instant.ofEpochSecond(second).atZone(zone)));
+      cached = c;
+    }
+    return c.value;
+  }
+
+  private static final class Cached {
+
+    private final long second;
+    private final String value;
+
+    private Cached(long second, String value) {
+      this.second = second;
+      this.value = value;
+    }
+  }
+}
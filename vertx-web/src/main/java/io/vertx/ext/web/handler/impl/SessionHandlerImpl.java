@@ -33,6 +33,7 @@ import io.vertx.ext.web.handler.SessionHandler;
 import io.vertx.ext.web.impl.RoutingContextInternal;
 import io.vertx.ext.web.impl.Signature;
 import io.vertx.ext.web.impl.UserContextInternal;
+import io.vertx.ext.web.sstore.AbstractSession;
 import io.vertx.ext.web.sstore.SessionStore;
 import io.vertx.ext.web.sstore.impl.SessionInternal;
 
@@ -165,6 +166,17 @@ public class SessionHandlerImpl implements SessionHandler {
     }
   }
 
+  private Future<Void> store(Session session) {
+    if (session instanceof AbstractSession) {
+      final AbstractSession tracked = (AbstractSession) session;
+      if (tracked.isTracked()) {
+        // only write what changed since the session was loaded
+        return sessionStore.putDelta(session, tracked.changedKeys(), tracked.removedKeys());
+      }
+    }
+    return sessionStore.put(session);
+  }
+
   private Future<Void> flush(RoutingContext context, boolean skipCrc, boolean ignoreStatus) {
     final boolean sessionUsed = context.isSessionAccessed();
     final Session session = context.session();
@@ -237,7 +249,7 @@ public class SessionHandlerImpl implements SessionHandler {
             }
           }
           session.setAccessed();
-          return sessionStore.put(session)
+          return store(session)
             .onSuccess(put -> {
               context.put(SESSION_FLUSHED_KEY, true);
               if (session instanceof SessionInternal) {
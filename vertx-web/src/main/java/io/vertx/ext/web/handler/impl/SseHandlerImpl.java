@@ -0,0 +1,380 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.codec.SseEvent;
+import io.vertx.ext.web.handler.SseBackpressurePolicy;
+import io.vertx.ext.web.handler.SseHandler;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class SseHandlerImpl implements SseHandler {
+
+  private static final Buffer OPEN = Buffer.buffer(":\n");
+
+  private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+  private volatile Function<RoutingContext, String> channelResolver = ctx -> DEFAULT_CHANNEL;
+  private volatile SseBackpressurePolicy backpressurePolicy = DEFAULT_BACKPRESSURE_POLICY;
+  private volatile int maxBufferedEvents = DEFAULT_MAX_BUFFERED_EVENTS;
+  private volatile int replaySize = DEFAULT_REPLAY_SIZE;
+  private volatile long emptyChannelTimeout = DEFAULT_EMPTY_CHANNEL_TIMEOUT;
+
+  @Override
+  public SseHandler setChannelResolver(Function<RoutingContext, String> channelResolver) {
+    this.channelResolver = Objects.requireNonNull(channelResolver);
+    return this;
+  }
+
+  @Override
+  public SseHandler setBackpressurePolicy(SseBackpressurePolicy backpressurePolicy) {
+    this.backpressurePolicy = Objects.requireNonNull(backpressurePolicy);
+    return this;
+  }
+
+  @Override
+  public SseHandler setMaxBufferedEvents(int maxBufferedEvents) {
+    if (maxBufferedEvents < 1) {
+      throw new IllegalArgumentException("maxBufferedEvents must be >= 1");
+    }
+    this.maxBufferedEvents = maxBufferedEvents;
+    return this;
+  }
+
+  @Override
+  public SseHandler setReplaySize(int replaySize) {
+    if (replaySize < 0) {
+      throw new IllegalArgumentException("replaySize must be >= 0");
+    }
+    this.replaySize = replaySize;
+    return this;
+  }
+
+  @Override
+  public SseHandler setEmptyChannelTimeout(long emptyChannelTimeout) {
+    if (emptyChannelTimeout < 0) {
+      throw new IllegalArgumentException("emptyChannelTimeout must be >= 0");
+    }
+    this.emptyChannelTimeout = emptyChannelTimeout;
+    return this;
+  }
+
+  @Override
+  public void handle(RoutingContext ctx) {
+    final String name = channelResolver.apply(ctx);
+    if (name == null) {
+      ctx.fail(404);
+      return;
+    }
+
+    final HttpServerResponse response = ctx.response();
+    response
+      .setChunked(true)
+      .putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream")
+      .putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    // a comment line sends the response head to the client right away
+    response.write(OPEN);
+
+    final Subscriber subscriber = new Subscriber(response, backpressurePolicy, maxBufferedEvents);
+    final String lastEventId = ctx.request().getHeader("Last-Event-ID");
+    Channel channel;
+    do {
+      // a channel is removed once its last subscriber leaves, a new one is then created
+      channel = channels.computeIfAbsent(name, n -> new Channel(ctx.vertx(), n));
+    } while (!channel.subscribe(subscriber, lastEventId));
+    final Channel subscribed = channel;
+    response.closeHandler(v -> subscribed.unsubscribe(subscriber));
+  }
+
+  @Override
+  public SseHandler send(String channel, SseEvent event) {
+    // events sent to a channel without subscribers are dropped, so the senders cannot create channels
+    final Channel c = channels.get(channel);
+    if (c != null) {
+      c.send(event);
+    }
+    return this;
+  }
+
+  @Override
+  public int subscribers(String channel) {
+    final Channel c = channels.get(channel);
+    return c == null ? 0 : c.size();
+  }
+
+  @Override
+  public SseHandler close(String channel) {
+    final Channel c = channels.get(channel);
+    if (c != null) {
+      c.close();
+    }
+    return this;
+  }
+
+  /**
+   * Encode an event in the event stream format.
+   */
+  static Buffer encode(String id, SseEvent event) {
+    final String data = event.data();
+    final Buffer buffer = Buffer.buffer(64 + (data == null ? 0 : data.length()));
+    if (id != null) {
+      buffer.appendString("id: ").appendString(singleLine("id", id)).appendByte((byte) '\n');
+    }
+    if (event.event() != null && !"message".equals(event.event())) {
+      buffer.appendString("event: ").appendString(singleLine("event", event.event())).appendByte((byte) '\n');
+    }
+    if (event.retry() > 0) {
+      buffer.appendString("retry: ").appendString(Integer.toString(event.retry())).appendByte((byte) '\n');
+    }
+    if (data != null) {
+      // each line of the data is a data field, whatever its line ending
+      int start = 0;
+      for (int i = 0; i <= data.length(); i++) {
+        final char c = i == data.length() ? '\n' : data.charAt(i);
+        if (c == '\n' || c == '\r') {
+          buffer.appendString("data: ").appendString(data.substring(start, i)).appendByte((byte) '\n');
+          if (c == '\r' && i + 1 < data.length() && data.charAt(i + 1) == '\n') {
+            i++;
+          }
+          start = i + 1;
+        }
+      }
+    }
+    return buffer.appendByte((byte) '\n');
+  }
+
+  private static String singleLine(String field, String value) {
+    if (value.indexOf('\n') != -1 || value.indexOf('\r') != -1) {
+      throw new IllegalArgumentException("The " + field + " of an event must not contain line breaks");
+    }
+    return value;
+  }
+
+  /**
+   * The subscribers of a channel and its retained events.
+   * <p>
+   * The events are sent under the channel lock, so all the subscribers get them in the same order and a subscriber
+   * replaying the retained events does not miss or duplicate an event sent meanwhile. The channel is removed when its
+   * last subscriber leaves, so the channels created by the requests do not pile up, a channel with retained events is
+   * kept for a while for the clients reconnecting.
+   */
+  private final class Channel {
+
+    private final Vertx vertx;
+    private final String name;
+    // a closed connection is removed without the channel lock
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final String[] ids;
+    private final Buffer[] events;
+    // the number of events ever retained, the next event is retained at count % capacity
+    private long count;
+    private long sequence;
+    // guarded by this, a removed channel no longer accepts subscribers
+    private boolean removed;
+    private boolean expiring;
+
+    Channel(Vertx vertx, String name) {
+      this.vertx = vertx;
+      this.name = name;
+      this.ids = new String[replaySize];
+      this.events = new Buffer[replaySize];
+    }
+
+    synchronized void send(SseEvent event) {
+      final String id = event.id() != null ? event.id() : Long.toString(++sequence);
+      final Buffer encoded = encode(id, event);
+      if (events.length > 0) {
+        final int idx = (int) (count++ % events.length);
+        ids[idx] = id;
+        events[idx] = encoded;
+      }
+      boolean unsubscribed = false;
+      for (Subscriber subscriber : subscribers) {
+        if (!subscriber.send(encoded)) {
+          unsubscribed |= subscribers.remove(subscriber);
+        }
+      }
+      if (unsubscribed) {
+        removeIfEmpty();
+      }
+    }
+
+    /**
+     * @return {@code false} when the channel has been removed, the subscriber must subscribe to the new channel
+     */
+    synchronized boolean subscribe(Subscriber subscriber, String lastEventId) {
+      if (removed) {
+        return false;
+      }
+      if (lastEventId != null) {
+        final int retained = (int) Math.min(count, events.length);
+        // replay the events after the last one received, or all the retained ones when it is no longer retained
+        int from = 0;
+        for (int i = retained - 1; i >= 0; i--) {
+          if (lastEventId.equals(ids[(int) ((count - retained + i) % events.length)])) {
+            from = i + 1;
+            break;
+          }
+        }
+        for (int i = from; i < retained; i++) {
+          if (!subscriber.send(events[(int) ((count - retained + i) % events.length)])) {
+            removeIfEmpty();
+            return true;
+          }
+        }
+      }
+      if (!subscriber.closed && !subscriber.response.closed()) {
+        subscribers.add(subscriber);
+      }
+      removeIfEmpty();
+      return true;
+    }
+
+    void unsubscribe(Subscriber subscriber) {
+      subscriber.closed = true;
+      if (subscribers.remove(subscriber) && subscribers.isEmpty()) {
+        synchronized (this) {
+          removeIfEmpty();
+        }
+      }
+    }
+
+    // guarded by this
+    private void removeIfEmpty() {
+      if (!removed && subscribers.isEmpty()) {
+        final long timeout = emptyChannelTimeout;
+        if (count > 0 && timeout > 0) {
+          if (!expiring) {
+            expiring = true;
+            vertx.setTimer(timeout, id -> {
+              synchronized (this) {
+                expiring = false;
+                remove();
+              }
+            });
+          }
+        } else {
+          remove();
+        }
+      }
+    }
+
+    // guarded by this
+    private void remove() {
+      if (!removed && subscribers.isEmpty()) {
+        removed = true;
+        channels.remove(name, this);
+      }
+    }
+
+    int size() {
+      return subscribers.size();
+    }
+
+    synchronized void close() {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.end();
+      }
+      subscribers.clear();
+      // the retained events are dropped
+      remove();
+    }
+  }
+
+  /**
+   * A connection subscribed to a channel, the events are sent from the threads sending to the channel.
+   */
+  private static final class Subscriber {
+
+    private final HttpServerResponse response;
+    private final SseBackpressurePolicy policy;
+    private final int maxBufferedEvents;
+    private ArrayDeque<Buffer> pending;
+    private volatile boolean closed;
+
+    Subscriber(HttpServerResponse response, SseBackpressurePolicy policy, int maxBufferedEvents) {
+      this.response = response;
+      this.policy = policy;
+      this.maxBufferedEvents = maxBufferedEvents;
+    }
+
+    /**
+     * @return whether the connection is still subscribed
+     */
+    synchronized boolean send(Buffer event) {
+      if (closed) {
+        return false;
+      }
+      if (pending == null && !response.writeQueueFull()) {
+        response.write(event);
+        return true;
+      }
+      switch (policy) {
+        case DROP:
+          return true;
+        case BUFFER:
+          if (pending == null) {
+            pending = new ArrayDeque<>();
+            response.drainHandler(v -> drain());
+          }
+          if (pending.size() < maxBufferedEvents) {
+            pending.add(event);
+            return true;
+          }
+          // the client is too slow, it can reconnect and replay the events it missed
+          reset();
+          return false;
+        default:
+          reset();
+          return false;
+      }
+    }
+
+    private synchronized void drain() {
+      while (pending != null && !pending.isEmpty() && !closed && !response.writeQueueFull()) {
+        response.write(pending.poll());
+      }
+      if (pending != null && pending.isEmpty()) {
+        pending = null;
+        response.drainHandler(null);
+      }
+    }
+
+    private void reset() {
+      closed = true;
+      pending = null;
+      response.reset();
+    }
+
+    synchronized void end() {
+      if (!closed) {
+        closed = true;
+        pending = null;
+        response.end();
+      }
+    }
+  }
+}
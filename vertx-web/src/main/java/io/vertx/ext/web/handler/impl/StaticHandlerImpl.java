@@ -21,22 +21,29 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.*;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.internal.net.RFC3986;
 import io.vertx.core.json.JsonArray;
 import io.vertx.ext.web.Http2PushMapping;
 import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.ParsedHeaderValue;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
 import io.vertx.ext.web.handler.StaticHandler;
-import io.vertx.ext.web.impl.LRUCache;
+import io.vertx.ext.web.impl.ConcurrentLRUCache;
 import io.vertx.ext.web.impl.ParsableMIMEValue;
 import io.vertx.ext.web.impl.Utils;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -55,6 +62,9 @@ public class StaticHandlerImpl implements StaticHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(StaticHandlerImpl.class);
 
+  // the expiry of the cache entries of a watched file system, in case the watcher misses an event
+  private static final long WATCHED_CACHE_ENTRY_TIMEOUT = 10 * 60 * 1000;
+
   // TODO change to private final after setWebRoot has been removed
   private String webRoot = DEFAULT_WEB_ROOT;
   private long maxAgeSeconds = DEFAULT_MAX_AGE_SECONDS; // One day
@@ -73,6 +83,13 @@ public class StaticHandlerImpl implements StaticHandler {
 
   private Set<String> compressedMediaTypes = Collections.emptySet();
   private Set<String> compressedFileSuffixes = Collections.emptySet();
+  private boolean servePrecompressed = DEFAULT_SERVE_PRECOMPRESSED;
+  private CompressedFileCache compressedFileCache;
+  private MemoryFileCache memoryCache;
+  private volatile FileSystemWatcher watcher;
+  private volatile ContentHashes contentHashes;
+  private String etagManifest;
+  private Pattern immutableFilePattern;
 
   private final FSTune tune = new FSTune();
   private final FSPropsCache cache = new FSPropsCache();
@@ -116,14 +133,23 @@ public class StaticHandlerImpl implements StaticHandler {
    * @param props   file properties
    */
   private void writeCacheHeaders(HttpServerRequest request, FileProps props) {
+    writeCacheHeaders(request, cache.enabled() ? Utils.formatRFC1123DateTime(props.lastModifiedTime()) : null);
+  }
+
+  private void writeCacheHeaders(HttpServerRequest request, String lastModified) {
 
     MultiMap headers = request.response().headers();
 
+    if (immutableFilePattern != null && immutableFilePattern.matcher(request.path()).matches()) {
+      // a fingerprinted file never changes, its name changes instead
+      headers.set(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+    }
+
     if (cache.enabled()) {
       // We use cache-control and last-modified
       // We *do not use* etags and expires (since they do the same thing - redundant)
       Utils.addToMapIfAbsent(headers, HttpHeaders.CACHE_CONTROL, "public, immutable, max-age=" + maxAgeSeconds);
-      Utils.addToMapIfAbsent(headers, HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(props.lastModifiedTime()));
+      Utils.addToMapIfAbsent(headers, HttpHeaders.LAST_MODIFIED, lastModified);
       // We send the vary header (for intermediate caches)
       // (assumes that most will turn on compression when using static handler)
       if (sendVaryHeader && request.headers().contains(HttpHeaders.ACCEPT_ENCODING)) {
@@ -151,6 +177,12 @@ public class StaticHandlerImpl implements StaticHandler {
       // Access fileSystem once here to be safe
       FileSystem fs = context.vertx().fileSystem();
 
+      final FileSystemWatcher w = watcher;
+      if (w != null) {
+        // the watcher is closed along with the deployment serving the files
+        w.closeWith((ContextInternal) context.vertx().getOrCreateContext());
+      }
+
       sendStatic(
         context,
         fs,
@@ -182,11 +214,13 @@ public class StaticHandlerImpl implements StaticHandler {
       }
     }
 
+    final String localFile = index ? file + indexPage : file;
+
     // Look in cache
     final CacheEntry entry = cache.get(file);
 
     if (entry != null) {
-      if ((filesReadOnly || !entry.isOutOfDate())) {
+      if (isCurrent(entry)) {
         // a cache entry can mean 2 things:
         // 1. a miss
         // 2. a hit
@@ -203,17 +237,25 @@ public class StaticHandlerImpl implements StaticHandler {
         // a hit needs to be verified for freshness
         final long lastModified = Utils.secondsFactor(entry.props.lastModifiedTime());
 
-        if (Utils.fresh(context, lastModified)) {
+        if (freshContent(context, localFile, entry.props) || Utils.fresh(context, lastModified)) {
           context.response()
             .setStatusCode(NOT_MODIFIED.code())
             .end();
           return;
         }
+
+        // a hot file is sent without accessing the file system
+        if (memoryCache != null && canSendFromMemory(context) && !mayUseVariant(context, localFile)) {
+          final MemoryFileCache.HotFile hot = memoryCache.get(localFile, entry.props);
+          if (hot != null) {
+            sendFromMemory(context, localFile, entry.props, hot);
+            return;
+          }
+        }
       }
     }
 
     final boolean dirty = cache.enabled() && entry != null;
-    final String localFile = index ? file + indexPage : file;
 
     // verify if the file exists
     fileSystem
@@ -269,12 +311,12 @@ public class StaticHandlerImpl implements StaticHandler {
               if (cache.enabled()) {
                 cache.put(file, fprops);
 
-                if (Utils.fresh(context, Utils.secondsFactor(fprops.lastModifiedTime()))) {
+                if (freshContent(context, localFile, fprops) || Utils.fresh(context, Utils.secondsFactor(fprops.lastModifiedTime()))) {
                   context.response().setStatusCode(NOT_MODIFIED.code()).end();
                   return;
                 }
               }
-              sendFile(context, fileSystem, localFile, fprops);
+              sendFileOrVariant(context, fileSystem, localFile, fprops);
             }
           })
           .onFailure(err -> {
@@ -286,6 +328,111 @@ public class StaticHandlerImpl implements StaticHandler {
       });
   }
 
+  /**
+   * Verify the freshness of a conditional request against the content hash of the file, the file is not accessed.
+   */
+  private boolean freshContent(RoutingContext context, String file, FileProps props) {
+    final ContentHashes hashes = contentHashes;
+    final String noneMatch = context.request().getHeader(HttpHeaders.IF_NONE_MATCH);
+    if (hashes == null || noneMatch == null) {
+      return false;
+    }
+    final String etag = hashes.etag(context.vertx(), file, props);
+    if (etag == null) {
+      return false;
+    }
+    // the client may hold a compressed representation of the file
+    final String match = ContentHashes.match(noneMatch, etag, servedEncodings());
+    if (match == null) {
+      return false;
+    }
+    context.response().headers().set(HttpHeaders.ETAG, match);
+    return Utils.fresh(context, Utils.secondsFactor(props.lastModifiedTime()));
+  }
+
+  /**
+   * @return the encodings of the compressed representations this handler sends
+   */
+  private List<String> servedEncodings() {
+    if (servePrecompressed) {
+      // includes gzip, the encoding of the compressed file cache
+      return PRECOMPRESSED_ENCODING_LIST;
+    }
+    return compressedFileCache != null ? GZIP_ENCODING_LIST : Collections.emptyList();
+  }
+
+  /**
+   * Write the content hash of the file as entity tag, once it is known.
+   */
+  private void writeContentHash(RoutingContext context, String file, FileProps props, String encoding) {
+    final ContentHashes hashes = contentHashes;
+    if (hashes != null) {
+      final String etag = hashes.etag(context.vertx(), file, props);
+      if (etag != null) {
+        context.response().headers().set(HttpHeaders.ETAG, encoding == null ? etag : ContentHashes.encoded(etag, encoding));
+      }
+    }
+  }
+
+  private boolean isCurrent(CacheEntry entry) {
+    if (filesReadOnly) {
+      return true;
+    }
+    final FileSystemWatcher w = watcher;
+    if (w != null && !w.isClosed()) {
+      // a watched file system invalidates the entries when the files change, the long expiry covers missed events
+      return !entry.isOutOfDate(Math.max(entry.cacheEntryTimeout, WATCHED_CACHE_ENTRY_TIMEOUT));
+    }
+    return !entry.isOutOfDate(entry.cacheEntryTimeout);
+  }
+
+  /**
+   * Invalidate the cached state of a file which has been created, modified or deleted.
+   *
+   * @param path the path of the file relative to the web root, or the empty path for all the files
+   */
+  private void invalidate(String path) {
+    if (path.isEmpty()) {
+      cache.clear();
+      if (memoryCache != null) {
+        memoryCache.clear();
+      }
+      return;
+    }
+    final String file = webRoot + "/" + path;
+    cache.remove(file);
+    // the parent directory entries may hold the props of its index page
+    final String dir = file.substring(0, file.lastIndexOf('/'));
+    cache.remove(dir);
+    cache.remove(dir + "/");
+    if (memoryCache != null) {
+      memoryCache.remove(file);
+    }
+  }
+
+  /**
+   * @return the web root when it is a directory of the file system, either directly or on the classpath
+   */
+  private Path watchableRoot() {
+    final File dir = new File(webRoot);
+    if (dir.isDirectory()) {
+      return dir.toPath().toAbsolutePath();
+    }
+    ClassLoader cl = Thread.currentThread().getContextClassLoader();
+    if (cl == null) {
+      cl = StaticHandlerImpl.class.getClassLoader();
+    }
+    final URL url = cl.getResource(webRoot);
+    if (url != null && "file".equals(url.getProtocol())) {
+      try {
+        return Paths.get(url.toURI());
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
   /**
    * sibling means that we are being upgraded from a directory to a index
    */
@@ -333,6 +480,196 @@ public class StaticHandlerImpl implements StaticHandler {
     }
   }
 
+  // precompressed sibling files, in order of preference
+  private static final String[] PRECOMPRESSED_ENCODINGS = {"br", "zstd", "gzip"};
+  private static final String[] PRECOMPRESSED_SUFFIXES = {".br", ".zst", ".gz"};
+  private static final List<String> PRECOMPRESSED_ENCODING_LIST = Arrays.asList(PRECOMPRESSED_ENCODINGS);
+  private static final List<String> GZIP_ENCODING_LIST = Collections.singletonList("gzip");
+
+  /**
+   * Send a compressed variant of the file when the client accepts its encoding, either a precompressed sibling file
+   * or a variant from the compressed file cache, otherwise send the file.
+   */
+  private void sendFileOrVariant(RoutingContext context, FileSystem fileSystem, String file, FileProps fileProps) {
+    if (mayUseVariant(context, file)) {
+      findVariant(context, fileSystem, file, fileProps, context.parsedHeaders().acceptEncoding(), 0)
+        .onComplete(ar -> {
+          if (ar.succeeded() && ar.result() != null) {
+            sendVariant(context, file, fileProps, ar.result());
+          } else {
+            sendFileOrHotFile(context, fileSystem, file, fileProps);
+          }
+        });
+    } else {
+      sendFileOrHotFile(context, fileSystem, file, fileProps);
+    }
+  }
+
+  private boolean mayUseVariant(RoutingContext context, String file) {
+    return (servePrecompressed || compressedFileCache != null)
+      && context.request().getHeader(HttpHeaders.RANGE) == null
+      && !context.parsedHeaders().acceptEncoding().isEmpty()
+      && !skipCompression(file);
+  }
+
+  private boolean skipCompression(String file) {
+    final String extension = getFileExtension(file);
+    return compressedMediaTypes.contains(MimeMapping.mimeTypeForExtension(extension)) || compressedFileSuffixes.contains(extension);
+  }
+
+  /**
+   * Send the file from the memory cache when it is small enough, loading it on the first request.
+   */
+  private void sendFileOrHotFile(RoutingContext context, FileSystem fileSystem, String file, FileProps fileProps) {
+    if (memoryCache != null && memoryCache.accepts(fileProps) && canSendFromMemory(context)) {
+      final MemoryFileCache.HotFile hot = memoryCache.get(file, fileProps);
+      if (hot != null) {
+        sendFromMemory(context, file, fileProps, hot);
+        return;
+      }
+      fileSystem.readFile(file)
+        .onComplete(ar -> {
+          if (ar.succeeded()) {
+            sendFromMemory(context, file, fileProps, memoryCache.put(file, fileProps, ar.result(), contentType(file), skipCompression(file)));
+          } else {
+            sendFile(context, fileSystem, file, fileProps);
+          }
+        });
+      return;
+    }
+    sendFile(context, fileSystem, file, fileProps);
+  }
+
+  private boolean canSendFromMemory(RoutingContext context) {
+    // range requests and http2 push are handled by sendFile
+    return http2PushMappings == null && (!rangeSupport || context.request().getHeader(HttpHeaders.RANGE) == null);
+  }
+
+  private void sendFromMemory(RoutingContext context, String file, FileProps fileProps, MemoryFileCache.HotFile hot) {
+    final HttpServerRequest request = context.request();
+    final HttpServerResponse response = context.response();
+
+    if (response.closed())
+      return;
+
+    final MultiMap headers = response.headers();
+    if (rangeSupport) {
+      headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+    }
+    writeCacheHeaders(request, hot.lastModifiedHeader);
+    writeContentHash(context, file, fileProps, null);
+
+    if (Utils.fresh(context, Utils.secondsFactor(hot.lastModified))) {
+      response.setStatusCode(NOT_MODIFIED.code()).end();
+      return;
+    }
+
+    headers.set(HttpHeaders.CONTENT_LENGTH, hot.contentLength);
+    if (hot.identity) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+    }
+    if (hot.contentType != null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, hot.contentType);
+    }
+
+    if (request.method() == HttpMethod.HEAD) {
+      response.end();
+    } else {
+      response.end(hot.data);
+    }
+  }
+
+  private String contentType(String file) {
+    final String contentType = MimeMapping.mimeTypeForFilename(file);
+    if (contentType != null && contentType.startsWith("text")) {
+      return contentType + ";charset=" + defaultContentEncoding;
+    }
+    return contentType;
+  }
+
+  private Future<EncodedFile> findVariant(RoutingContext context, FileSystem fileSystem, String file, FileProps fileProps, List<ParsedHeaderValue> acceptEncoding, int idx) {
+    if (servePrecompressed) {
+      for (int i = idx; i < PRECOMPRESSED_ENCODINGS.length; i++) {
+        final String encoding = PRECOMPRESSED_ENCODINGS[i];
+        if (accepts(acceptEncoding, encoding)) {
+          final String sibling = file + PRECOMPRESSED_SUFFIXES[i];
+          final int next = i + 1;
+          return getSiblingProps(fileSystem, sibling)
+            .compose(props -> {
+              if (props != null && props.isRegularFile()) {
+                return Future.succeededFuture(new EncodedFile(sibling, encoding, props.size()));
+              }
+              return findVariant(context, fileSystem, file, fileProps, acceptEncoding, next);
+            });
+        }
+      }
+    }
+    if (compressedFileCache != null && fileProps.size() >= CompressedFileCache.MIN_FILE_SIZE && accepts(acceptEncoding, "gzip")) {
+      return compressedFileCache
+        .get(context.vertx(), file, fileProps)
+        .map(variant -> variant == null ? null : new EncodedFile(variant.path, "gzip", variant.size));
+    }
+    return Future.succeededFuture();
+  }
+
+  private Future<FileProps> getSiblingProps(FileSystem fileSystem, String sibling) {
+    final CacheEntry entry = cache.get(sibling);
+    if (entry != null && isCurrent(entry)) {
+      return Future.succeededFuture(entry.props);
+    }
+    return getFileProps(fileSystem, sibling)
+      .otherwiseEmpty()
+      .onSuccess(props -> cache.put(sibling, props));
+  }
+
+  private static boolean accepts(List<ParsedHeaderValue> acceptEncoding, String encoding) {
+    for (ParsedHeaderValue value : acceptEncoding) {
+      if (encoding.equalsIgnoreCase(value.value())) {
+        return value.weight() > 0;
+      }
+    }
+    return false;
+  }
+
+  private void sendVariant(RoutingContext context, String file, FileProps fileProps, EncodedFile variant) {
+    final HttpServerRequest request = context.request();
+    final HttpServerResponse response = context.response();
+
+    if (response.closed())
+      return;
+
+    writeCacheHeaders(request, fileProps);
+    writeContentHash(context, file, fileProps, variant.encoding);
+
+    final MultiMap headers = response.headers();
+    // the response depends on the accept-encoding header, whatever the vary header setting
+    Utils.addToMapIfAbsent(headers, HttpHeaders.VARY, "accept-encoding");
+    // the content encoding also prevents the server from compressing the response again
+    headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+    headers.set(HttpHeaders.CONTENT_LENGTH, Long.toString(variant.size));
+    // the content type is the one of the uncompressed file
+    String contentType = MimeMapping.mimeTypeForFilename(file);
+    if (contentType != null) {
+      if (contentType.startsWith("text")) {
+        response.putHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultContentEncoding);
+      } else {
+        response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+      }
+    }
+
+    if (request.method() == HttpMethod.HEAD) {
+      response.end();
+    } else {
+      response.sendFile(variant.path)
+        .onFailure(err -> {
+          if (!context.request().isEnded()) {
+            context.request().resume();
+          }
+          context.fail(err);
+        });
+    }
+  }
+
   private static final Pattern RANGE = Pattern.compile("^bytes=(\\d+)-(\\d*)$");
 
   private void sendFile(RoutingContext context, FileSystem fileSystem, String file, FileProps fileProps) {
@@ -392,6 +729,7 @@ public class StaticHandlerImpl implements StaticHandler {
     }
 
     writeCacheHeaders(request, fileProps);
+    writeContentHash(context, file, fileProps, null);
 
     if (request.method() == HttpMethod.HEAD) {
       response.end();
@@ -590,6 +928,66 @@ public class StaticHandlerImpl implements StaticHandler {
     return this;
   }
 
+  @Override
+  public StaticHandler setServePrecompressed(boolean servePrecompressed) {
+    this.servePrecompressed = servePrecompressed;
+    return this;
+  }
+
+  @Override
+  public StaticHandler setCompressedFileCache(String cacheDirectory, long maxCacheSize) {
+    this.compressedFileCache = cacheDirectory == null ? null : new CompressedFileCache(cacheDirectory, maxCacheSize);
+    return this;
+  }
+
+  @Override
+  public StaticHandler setMemoryCache(int maxFileSize, long maxCacheSize) {
+    this.memoryCache = maxFileSize == 0 ? null : new MemoryFileCache(maxFileSize, maxCacheSize);
+    return this;
+  }
+
+  @Override
+  public synchronized StaticHandler setWatchFileSystem(boolean watchFileSystem) {
+    if (watcher != null) {
+      watcher.close();
+      watcher = null;
+    }
+    if (watchFileSystem) {
+      final Path root = watchableRoot();
+      if (root == null) {
+        LOG.warn("Cannot watch the web root " + webRoot + ", it is not a directory of the file system");
+      } else {
+        try {
+          watcher = new FileSystemWatcher(root, this::invalidate);
+        } catch (IOException e) {
+          LOG.warn("Cannot watch the web root " + webRoot, e);
+        }
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized StaticHandler setContentHashETags(boolean contentHashETags) {
+    this.contentHashes = contentHashETags ? new ContentHashes(etagManifest) : null;
+    return this;
+  }
+
+  @Override
+  public synchronized StaticHandler setETagManifest(String manifestFile) {
+    this.etagManifest = manifestFile;
+    if (contentHashes != null) {
+      contentHashes = new ContentHashes(manifestFile);
+    }
+    return this;
+  }
+
+  @Override
+  public StaticHandler setImmutableFilePattern(String regex) {
+    this.immutableFilePattern = regex == null ? null : Pattern.compile(regex);
+    return this;
+  }
+
   @Override
   public synchronized StaticHandler setEnableFSTuning(boolean enableFSTuning) {
     tune.setEnabled(enableFSTuning);
@@ -758,6 +1156,18 @@ public class StaticHandlerImpl implements StaticHandler {
     }
   }
 
+  private static final class EncodedFile {
+    final String path;
+    final String encoding;
+    final long size;
+
+    private EncodedFile(String path, String encoding, long size) {
+      this.path = path;
+      this.encoding = encoding;
+      this.size = size;
+    }
+  }
+
   private static final class CacheEntry {
     final long createDate = System.currentTimeMillis();
 
@@ -769,8 +1179,8 @@ public class StaticHandlerImpl implements StaticHandler {
       this.cacheEntryTimeout = cacheEntryTimeout;
     }
 
-    boolean isOutOfDate() {
-      return System.currentTimeMillis() - createDate > cacheEntryTimeout;
+    boolean isOutOfDate(long timeout) {
+      return System.currentTimeMillis() - createDate > timeout;
     }
 
     public boolean isMissing() {
@@ -843,7 +1253,8 @@ public class StaticHandlerImpl implements StaticHandler {
   }
 
   private static class FSPropsCache {
-    private Map<String, CacheEntry> propsCache;
+    // shared by all the event loops serving the handler
+    private volatile ConcurrentLRUCache<String, CacheEntry> propsCache;
     private long cacheEntryTimeout = DEFAULT_CACHE_ENTRY_TIMEOUT;
     private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
 
@@ -876,7 +1287,7 @@ public class StaticHandlerImpl implements StaticHandler {
           propsCache.clear();
         }
         if (enable) {
-          propsCache = new LRUCache<>(maxCacheSize);
+          propsCache = new ConcurrentLRUCache<>(maxCacheSize);
         } else {
           propsCache = null;
         }
@@ -891,12 +1302,21 @@ public class StaticHandlerImpl implements StaticHandler {
     }
 
     private void remove(String path) {
+      final ConcurrentLRUCache<String, CacheEntry> propsCache = this.propsCache;
       if (propsCache != null) {
         propsCache.remove(path);
       }
     }
 
+    private void clear() {
+      final ConcurrentLRUCache<String, CacheEntry> propsCache = this.propsCache;
+      if (propsCache != null) {
+        propsCache.clear();
+      }
+    }
+
     CacheEntry get(String key) {
+      final ConcurrentLRUCache<String, CacheEntry> propsCache = this.propsCache;
       if (propsCache != null) {
         return propsCache.get(key);
       }
@@ -905,6 +1325,7 @@ public class StaticHandlerImpl implements StaticHandler {
     }
 
     void put(String path, FileProps props) {
+      final ConcurrentLRUCache<String, CacheEntry> propsCache = this.propsCache;
       if (propsCache != null) {
         CacheEntry now = new CacheEntry(props, cacheEntryTimeout);
         propsCache.put(path, now);
@@ -15,15 +15,27 @@
  */
 package io.vertx.ext.web.handler.impl;
 
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.internal.net.RFC3986;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.LanguageHeader;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.common.template.CachingTemplateEngine;
 import io.vertx.ext.web.common.template.TemplateEngine;
 import io.vertx.ext.web.handler.TemplateHandler;
+import io.vertx.ext.web.impl.BoundedCache;
 import io.vertx.ext.web.impl.Utils;
 
 import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.CRC32;
 
 /**
  *
@@ -31,11 +43,19 @@ import java.util.Locale;
  */
 public class TemplateHandlerImpl implements TemplateHandler {
 
+  // how often the modification time of the template of a cached output is checked
+  private static final long TEMPLATE_CHECK_INTERVAL = 1000;
+
   private final TemplateEngine engine;
   private final String templateDirectory;
   private final String contentType;
   private String indexTemplate;
 
+  // rendered output cache, disabled by default
+  private Function<RoutingContext, String> renderCacheKey;
+  private BoundedCache<String, RenderedTemplate> renderCache;
+  private long renderCacheMaxAge;
+
   public TemplateHandlerImpl(TemplateEngine engine, String templateDirectory, String contentType) {
     this.engine = engine;
     this.templateDirectory = templateDirectory == null || templateDirectory.isEmpty() ? "." : templateDirectory;
@@ -70,25 +90,208 @@ public class TemplateHandlerImpl implements TemplateHandler {
         break;
       }
     }
+    final String templateFile = templateDirectory + file;
+    final String key = renderCacheKey == null ? null : renderCacheKey.apply(context);
+    if (key == null) {
+      render(context, templateFile);
+      return;
+    }
+    // the language is part of the data the output depends on
+    final String cacheKey = templateFile + '\u0000' + context.data().get("lang") + '\u0000' + key;
+    final RenderedTemplate cached = renderCache.get(cacheKey);
+    final long now = System.currentTimeMillis();
+    if (cached == null || cached.expiresAt <= now) {
+      renderAndCache(context, templateFile, cacheKey);
+    } else if (cached.lastModified == -1 || now - cached.checkedAt < TEMPLATE_CHECK_INTERVAL) {
+      send(context, cached);
+    } else {
+      // the template may have been modified since it has been rendered
+      context.vertx().fileSystem()
+        .props(cached.location)
+        .onComplete(ar -> {
+          if (ar.succeeded() && ar.result().lastModifiedTime() == cached.lastModified) {
+            cached.checkedAt = System.currentTimeMillis();
+            send(context, cached);
+          } else {
+            renderCache.remove(cacheKey, cached);
+            renderAndCache(context, templateFile, cacheKey);
+          }
+        });
+    }
+  }
+
+  private void render(RoutingContext context, String templateFile) {
     if (!context.request().isEnded()) {
       context.request().pause();
     }
-    // render using the engine
-    engine.render(context.data(), templateDirectory + file)
-      .onSuccess(data -> {
+    // render using the engine, large outputs are streamed with chunked encoding
+    final ResponseStream stream = new ResponseStream(context.response(), contentType);
+    engine.render(context.data(), templateFile, stream)
+      .onSuccess(v -> {
         if (!context.request().isEnded()) {
           context.request().resume();
         }
-        context.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType).end(data);
+        stream.end();
       })
       .onFailure(err -> {
         if (!context.request().isEnded()) {
           context.request().resume();
         }
-        context.fail(err);
+        if (context.response().headWritten()) {
+          // part of the output has already been sent, the response cannot be an error anymore
+          context.response().reset();
+        } else {
+          context.fail(err);
+        }
     });
   }
 
+  private void renderAndCache(RoutingContext context, String templateFile, String cacheKey) {
+    if (!context.request().isEnded()) {
+      context.request().pause();
+    }
+    final String location = engine instanceof CachingTemplateEngine ?
+      ((CachingTemplateEngine<?>) engine).location(templateFile) :
+      templateFile;
+    // read the modification time before rendering, so a concurrent modification invalidates the output
+    final Future<Long> lastModified = context.vertx().fileSystem()
+      .props(location)
+      .map(FileProps::lastModifiedTime)
+      .otherwise(-1L);
+
+    Future.all(lastModified, engine.render(context.data(), templateFile))
+      .onSuccess(res -> {
+        if (!context.request().isEnded()) {
+          context.request().resume();
+        }
+        final Buffer data = res.resultAt(1);
+        final long now = System.currentTimeMillis();
+        final RenderedTemplate rendered = new RenderedTemplate(data, etag(data), location, res.resultAt(0), now + renderCacheMaxAge, now);
+        renderCache.put(cacheKey, rendered);
+        send(context, rendered);
+      })
+      .onFailure(err -> {
+        if (!context.request().isEnded()) {
+          context.request().resume();
+        }
+        context.fail(err);
+      });
+  }
+
+  private void send(RoutingContext context, RenderedTemplate rendered) {
+    final HttpServerResponse response = context.response()
+      .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+      .putHeader(HttpHeaders.ETAG, rendered.etag);
+    if (Utils.fresh(context)) {
+      response.setStatusCode(304).end();
+    } else {
+      response.end(rendered.data);
+    }
+  }
+
+  private static String etag(Buffer data) {
+    final CRC32 crc = new CRC32();
+    crc.update(data.getBytes());
+    return "\"" + Integer.toHexString(data.length()) + "-" + Long.toHexString(crc.getValue()) + "\"";
+  }
+
+  @Override
+  public TemplateHandler setRenderCache(Function<RoutingContext, String> cacheKey, long maxAgeSeconds, int maxSize) {
+    Objects.requireNonNull(cacheKey, "cacheKey cannot be null");
+    if (maxAgeSeconds <= 0) {
+      throw new IllegalArgumentException("maxAgeSeconds must be > 0");
+    }
+    this.renderCache = new BoundedCache<>(maxSize);
+    this.renderCacheMaxAge = TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+    this.renderCacheKey = cacheKey;
+    return this;
+  }
+
+  /**
+   * Writes the rendered output to the response. The first chunk is held so an output rendered as a single chunk is
+   * sent with a content length, the response is chunked when the output is larger.
+   */
+  private static final class ResponseStream implements WriteStream<Buffer> {
+
+    private final HttpServerResponse response;
+    private final String contentType;
+    private Buffer first;
+
+    private ResponseStream(HttpServerResponse response, String contentType) {
+      this.response = response;
+      this.contentType = contentType;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      if (first == null && !response.headWritten()) {
+        first = data;
+        return Future.succeededFuture();
+      }
+      if (first != null) {
+        response
+          .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+          .setChunked(true)
+          .write(first);
+        first = null;
+      }
+      return response.write(data);
+    }
+
+    @Override
+    public Future<Void> end() {
+      if (response.headWritten()) {
+        return response.end();
+      }
+      final Buffer data = first;
+      first = null;
+      response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+      return data == null ? response.end() : response.end(data);
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      response.exceptionHandler(handler);
+      return this;
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      response.setWriteQueueMaxSize(maxSize);
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return response.writeQueueFull();
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      response.drainHandler(handler);
+      return this;
+    }
+  }
+
+  private static final class RenderedTemplate {
+
+    private final Buffer data;
+    private final String etag;
+    private final String location;
+    private final long lastModified;
+    private final long expiresAt;
+    private volatile long checkedAt;
+
+    private RenderedTemplate(Buffer data, String etag, String location, long lastModified, long expiresAt, long checkedAt) {
+      this.data = data;
+      this.etag = etag;
+      this.location = location;
+      this.lastModified = lastModified;
+      this.expiresAt = expiresAt;
+      this.checkedAt = checkedAt;
+    }
+  }
+
   @Override
   public TemplateHandler setIndexTemplate(String indexTemplate) {
     this.indexTemplate = indexTemplate;
@@ -16,10 +16,16 @@
 
 package io.vertx.ext.web.handler.impl;
 
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.Timer;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.TimeoutHandler;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * @author <a href="http://pmlopes@gmail.com">Paulo Lopes</a>
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -29,26 +35,172 @@ public class TimeoutHandlerImpl implements TimeoutHandler {
 
   private final long timeout;
   private final int errorCode;
+  private final long resolution;
+  private final LongAdder timeoutCount = new LongAdder();
 
   public TimeoutHandlerImpl(long timeout, int errorCode) {
+    this(timeout, errorCode, DEFAULT_RESOLUTION);
+  }
+
+  public TimeoutHandlerImpl(long timeout, int errorCode, long resolution) {
+    if (resolution < 0) {
+      throw new IllegalArgumentException("resolution must be >= 0");
+    }
     this.timeout = timeout;
     this.errorCode = errorCode;
+    // a resolution coarser than the timeout would only delay it
+    this.resolution = Math.min(resolution, timeout);
   }
 
   @Override
   public void handle(RoutingContext ctx) {
-    Timer timer = ctx.vertx().timer(timeout);
-    int handlerId = ctx.addEndHandler(v -> timer.cancel());
-    timer.onSuccess(v -> {
-      // If this router has been restarted, the timeout shouldn't fire
-      if (ctx.removeEndHandler(handlerId)) {
-        if (!ctx.request().isEnded()) {
-          ctx.request().resume();
-        }
-        ctx.fail(errorCode);
+    final Context context = Vertx.currentContext();
+    if (resolution > 0 && context != null && context.isEventLoopContext()) {
+      // the wheel is not thread safe, it is only used from the event loop of the root context the requests are
+      // duplicated from, and outlives them
+      final ContextInternal root = ((ContextInternal) context).unwrap();
+      TimingWheel wheel = root.get(this);
+      if (wheel == null) {
+        wheel = new TimingWheel(root, timeout, resolution);
+        root.put(this, wheel);
       }
-    });
+      final Expiration expiration = new Expiration((ContextInternal) context, ctx);
+      final TimingWheel.Entry entry = wheel.schedule(expiration);
+      expiration.handlerId = ctx.addEndHandler(v -> entry.cancel());
+    } else {
+      Timer timer = ctx.vertx().timer(timeout);
+      int handlerId = ctx.addEndHandler(v -> timer.cancel());
+      timer.onSuccess(v -> expire(ctx, handlerId));
+    }
 
     ctx.next();
   }
+
+  private void expire(RoutingContext ctx, int handlerId) {
+    // If this router has been restarted, the timeout shouldn't fire
+    if (ctx.removeEndHandler(handlerId)) {
+      timeoutCount.increment();
+      if (!ctx.request().isEnded()) {
+        ctx.request().resume();
+      }
+      ctx.fail(errorCode);
+    }
+  }
+
+  @Override
+  public long timeoutCount() {
+    return timeoutCount.sum();
+  }
+
+  private final class Expiration implements Handler<Void> {
+
+    private final ContextInternal context;
+    private final RoutingContext ctx;
+    private int handlerId;
+
+    Expiration(ContextInternal context, RoutingContext ctx) {
+      this.context = context;
+      this.ctx = ctx;
+    }
+
+    @Override
+    public void handle(Void v) {
+      // the wheel ticks on the root context, the request fails on its own context
+      context.emit(null, ignore -> expire(ctx, handlerId));
+    }
+  }
+
+  /**
+   * A hashed timing wheel for timeouts of a single duration.
+   * <p>
+   * The wheel has a slot per tick of the timeout, plus the slot being expired, so every timeout fits in a single turn
+   * and scheduling and cancelling are constant time list operations. The wheel is ticked by a periodic timer of the
+   * root context which only runs while the wheel holds timeouts. A timeout expires after its duration, at most two
+   * ticks late.
+   */
+  static final class TimingWheel {
+
+    private final ContextInternal context;
+    private final Thread eventLoop;
+    private final long resolution;
+    private final int ticks;
+    private final Entry[] slots;
+    private int cursor;
+    private int size;
+    private long timerId = -1;
+
+    TimingWheel(ContextInternal context, long timeout, long resolution) {
+      this.context = context;
+      this.eventLoop = Thread.currentThread();
+      this.resolution = resolution;
+      // the first tick comes before a whole resolution elapsed
+      this.ticks = (int) ((timeout + resolution - 1) / resolution) + 1;
+      this.slots = new Entry[ticks + 1];
+      for (int i = 0; i < slots.length; i++) {
+        // sentinel of the slot list
+        slots[i] = new Entry(this, null);
+        slots[i].prev = slots[i].next = slots[i];
+      }
+    }
+
+    Entry schedule(Handler<Void> task) {
+      final Entry entry = new Entry(this, task);
+      final Entry slot = slots[(cursor + ticks) % slots.length];
+      entry.prev = slot.prev;
+      entry.next = slot;
+      slot.prev.next = entry;
+      slot.prev = entry;
+      if (size++ == 0) {
+        timerId = context.setPeriodic(resolution, id -> tick());
+      }
+      return entry;
+    }
+
+    private void tick() {
+      cursor = (cursor + 1) % slots.length;
+      final Entry slot = slots[cursor];
+      while (slot.next != slot) {
+        final Entry entry = slot.next;
+        entry.unlink();
+        entry.task.handle(null);
+      }
+    }
+
+    private void removed() {
+      if (--size == 0) {
+        context.owner().cancelTimer(timerId);
+        timerId = -1;
+      }
+    }
+
+    static final class Entry {
+
+      private final TimingWheel wheel;
+      private final Handler<Void> task;
+      private Entry prev;
+      private Entry next;
+
+      private Entry(TimingWheel wheel, Handler<Void> task) {
+        this.wheel = wheel;
+        this.task = task;
+      }
+
+      void cancel() {
+        if (Thread.currentThread() == wheel.eventLoop) {
+          unlink();
+        } else {
+          wheel.context.runOnContext(v -> unlink());
+        }
+      }
+
+      private void unlink() {
+        if (next != null) {
+          prev.next = next;
+          next.prev = prev;
+          prev = next = null;
+          wheel.removed();
+        }
+      }
+    }
+  }
 }
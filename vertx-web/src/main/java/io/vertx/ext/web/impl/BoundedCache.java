@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache of values computed from a small set of keys, such as the header values sent by browsers.
+ * <p>
+ * The cache is cleared when it is full, the entries in use being computed again on their next lookup. This keeps
+ * lookups lock free and bounds the memory when the keys are not as few as expected, without tracking the usage of
+ * each entry.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values, which must be safe to share between threads
+ */
+public final class BoundedCache<K, V> {
+
+  private final ConcurrentHashMap<K, V> map;
+  private final int maxSize;
+
+  public BoundedCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be >= 1");
+    }
+    this.maxSize = maxSize;
+    this.map = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the value of the key, computing it when it is not in the cache.
+   *
+   * @param key the key
+   * @param mappingFunction the function computing the value, it must not return {@code null}
+   * @return the value
+   */
+  public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+    V value = map.get(key);
+    if (value == null) {
+      // computed outside the map lock, a concurrent lookup may compute the same value
+      value = Objects.requireNonNull(mappingFunction.apply(key));
+      if (map.size() >= maxSize) {
+        map.clear();
+      }
+      V previous = map.putIfAbsent(key, value);
+      if (previous != null) {
+        value = previous;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * @return the value of the key, or {@code null} when it is not in the cache
+   */
+  public V get(K key) {
+    return map.get(key);
+  }
+
+  /**
+   * Put a value in the cache.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void put(K key, V value) {
+    if (map.size() >= maxSize) {
+      map.clear();
+    }
+    map.put(key, value);
+  }
+
+  /**
+   * Remove the key only if it is mapped to the given value.
+   *
+   * @param key the key
+   * @param value the expected value
+   */
+  public void remove(K key, V value) {
+    map.remove(key, value);
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  public void clear() {
+    map.clear();
+  }
+}
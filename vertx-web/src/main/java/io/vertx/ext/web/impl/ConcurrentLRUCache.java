@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A concurrent cache bounded in number of entries, or in total weight of the entries, evicting the entries in
+ * approximate least recently used order.
+ * <p>
+ * The order is kept with the CLOCK algorithm: the entries are queued in insertion order and a lookup only marks the
+ * entry as referenced, an evicted entry which has been referenced since it was queued is given a second chance at the
+ * tail of the queue. Lookups are lock free and never write to shared state beyond the entry they read, so unlike
+ * {@link LRUCache} the cache can be shared by the event loops without contention. A removed entry is only marked, it is
+ * unlinked from the queue when the clock reaches it, or by a sweep of the queue once more entries have been removed than
+ * the cache holds.
+ * <p>
+ * A removal listener is called with the values leaving the cache because they are evicted, replaced, removed or
+ * cleared, on the thread which removed them.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class ConcurrentLRUCache<K, V> {
+
+  private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<Node<K, V>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong weight = new AtomicLong();
+  // removed entries still in the queue, approximately
+  private final AtomicInteger removed = new AtomicInteger();
+  private final long maxWeight;
+  private final ToLongFunction<? super V> weigher;
+  private final Consumer<? super V> removalListener;
+
+  public ConcurrentLRUCache(int maxSize) {
+    this(maxSize, value -> 1, null);
+  }
+
+  /**
+   * @param maxWeight the max total weight of the entries
+   * @param weigher the weight of a value, it must not change while the value is in the cache
+   * @param removalListener called with the values evicted, replaced, removed or cleared, may be {@code null}
+   */
+  public ConcurrentLRUCache(long maxWeight, ToLongFunction<? super V> weigher, Consumer<? super V> removalListener) {
+    if (maxWeight < 1) {
+      throw new IllegalArgumentException("maxWeight must be >= 1");
+    }
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+    this.removalListener = removalListener;
+  }
+
+  /**
+   * @return the value of the key, or {@code null} when it is not in the cache
+   */
+  public V get(K key) {
+    final Node<K, V> node = map.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (!node.referenced) {
+      // only written once per round of the clock, so hot entries are not written on every lookup
+      node.referenced = true;
+    }
+    return node.value;
+  }
+
+  /**
+   * Put a value in the cache, evicting entries when the cache is full.
+   *
+   * @param key the key
+   * @param value the value, it must not be {@code null}
+   */
+  public void put(K key, V value) {
+    final Node<K, V> node = new Node<>(key, value, weigher.applyAsLong(value));
+    final Node<K, V> previous = map.put(key, node);
+    if (previous != null) {
+      // the replaced entry keeps its place in the queue until the clock or a sweep unlinks it
+      unlinked(previous);
+    }
+    queue.add(node);
+    size.incrementAndGet();
+    if (weight.addAndGet(node.weight) > maxWeight) {
+      evict();
+    }
+  }
+
+  /**
+   * Remove a key from the cache.
+   *
+   * @param key the key
+   */
+  public void remove(K key) {
+    final Node<K, V> node = map.remove(key);
+    if (node != null) {
+      unlinked(node);
+    }
+  }
+
+  /**
+   * Remove a key from the cache only when it is mapped to the given value.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void remove(K key, V value) {
+    final Node<K, V> node = map.get(key);
+    if (node != null && node.value.equals(value) && map.remove(key, node)) {
+      unlinked(node);
+    }
+  }
+
+  // called once per node, by the thread which removed it from the map
+  private void unlinked(Node<K, V> node) {
+    detached(node);
+    if (removed.incrementAndGet() > Math.max(size.get(), 16)) {
+      sweep();
+    }
+  }
+
+  private void detached(Node<K, V> node) {
+    node.removed = true;
+    size.decrementAndGet();
+    weight.addAndGet(-node.weight);
+    if (removalListener != null) {
+      removalListener.accept(node.value);
+    }
+  }
+
+  private void sweep() {
+    removed.set(0);
+    for (Iterator<Node<K, V>> it = queue.iterator(); it.hasNext(); ) {
+      if (it.next().removed) {
+        it.remove();
+      }
+    }
+  }
+
+  private void evict() {
+    while (weight.get() > maxWeight) {
+      final Node<K, V> node = queue.poll();
+      if (node == null) {
+        return;
+      }
+      if (node.removed) {
+        removed.decrementAndGet();
+      } else if (node.referenced) {
+        // second chance, each round clears the flags so the loop ends
+        node.referenced = false;
+        queue.add(node);
+      } else if (map.remove(node.key, node)) {
+        detached(node);
+      }
+    }
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * @return the total weight of the entries, the number of entries unless the cache has been created with a weigher
+   */
+  public long weight() {
+    return weight.get();
+  }
+
+  /**
+   * Remove all the entries, the removal listener is called with each of them.
+   */
+  public void clear() {
+    for (Node<K, V> node : map.values()) {
+      if (map.remove(node.key, node)) {
+        detached(node);
+      }
+    }
+    // entries put concurrently stay queued
+    sweep();
+  }
+
+  private static final class Node<K, V> {
+
+    final K key;
+    final V value;
+    final long weight;
+    volatile boolean referenced;
+    volatile boolean removed;
+
+    Node(K key, V value, long weight) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+}
@@ -1,25 +1,57 @@
 package io.vertx.ext.web.impl;
 
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.LanguageHeader;
 import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.ParsedHeaderValue;
 import io.vertx.ext.web.ParsedHeaderValues;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * The parsed {@code Accept*} and {@code Content-Type} headers of a request.
+ * <p>
+ * When created from the raw header values, each header is parsed on first access. The parsed and sorted values of
+ * the {@code Accept*} headers are shared between the requests sending the same raw value, as browsers send a small
+ * set of identical values.
+ */
 public class ParsableHeaderValuesContainer implements ParsedHeaderValues {
 
-  private final List<MIMEHeader> accept;
-  private final List<ParsedHeaderValue> acceptCharset;
-  private final List<ParsedHeaderValue> acceptEncoding;
-  private final List<LanguageHeader> acceptLanguage;
-  private final ParsableMIMEValue contentType;
+  // bound the memory used by the parsed headers cache, values longer than this are parsed on each request
+  private static final int MAX_CACHED_LENGTH = 512;
+  private static final int MAX_CACHED_VALUES = 256;
+
+  private static final BoundedCache<String, List<MIMEHeader>> ACCEPT_CACHE = new BoundedCache<>(MAX_CACHED_VALUES);
+  private static final BoundedCache<String, List<ParsedHeaderValue>> ACCEPT_CHARSET_CACHE = new BoundedCache<>(MAX_CACHED_VALUES);
+  private static final BoundedCache<String, List<ParsedHeaderValue>> ACCEPT_ENCODING_CACHE = new BoundedCache<>(MAX_CACHED_VALUES);
+  private static final BoundedCache<String, List<LanguageHeader>> ACCEPT_LANGUAGE_CACHE = new BoundedCache<>(MAX_CACHED_VALUES);
+
+  private final String rawAccept;
+  private final String rawAcceptCharset;
+  private final String rawAcceptEncoding;
+  private final String rawAcceptLanguage;
+  private final String rawContentType;
+
+  private List<MIMEHeader> accept;
+  private List<ParsedHeaderValue> acceptCharset;
+  private List<ParsedHeaderValue> acceptEncoding;
+  private List<LanguageHeader> acceptLanguage;
+  private ParsableMIMEValue contentType;
 
   public ParsableHeaderValuesContainer(
       List<MIMEHeader> accept, List<ParsedHeaderValue> acceptCharset, List<ParsedHeaderValue> acceptEncoding,
       List<LanguageHeader> acceptLanguage, ParsableMIMEValue contentType) {
+    this.rawAccept = null;
+    this.rawAcceptCharset = null;
+    this.rawAcceptEncoding = null;
+    this.rawAcceptLanguage = null;
+    this.rawContentType = null;
     this.accept = accept;
     this.acceptCharset = acceptCharset;
     this.acceptEncoding = acceptEncoding;
@@ -27,27 +59,86 @@ public class ParsableHeaderValuesContainer implements ParsedHeaderValues {
     this.contentType = contentType;
   }
 
+  private ParsableHeaderValuesContainer(String accept, String acceptCharset, String acceptEncoding, String acceptLanguage, String contentType) {
+    this.rawAccept = accept;
+    this.rawAcceptCharset = acceptCharset;
+    this.rawAcceptEncoding = acceptEncoding;
+    this.rawAcceptLanguage = acceptLanguage;
+    this.rawContentType = contentType == null ? "" : contentType;
+  }
+
+  /**
+   * Create a container parsing the headers of the request on first access.
+   *
+   * @param request the request
+   * @return the container
+   */
+  public static ParsableHeaderValuesContainer create(HttpServerRequest request) {
+    return new ParsableHeaderValuesContainer(
+      request.getHeader(HttpHeaders.ACCEPT),
+      request.getHeader(HttpHeaders.ACCEPT_CHARSET),
+      request.getHeader(HttpHeaders.ACCEPT_ENCODING),
+      request.getHeader(HttpHeaders.ACCEPT_LANGUAGE),
+      request.getHeader(HttpHeaders.CONTENT_TYPE));
+  }
+
   @Override
   public List<MIMEHeader> accept() {
+    if (accept == null) {
+      accept = parse(ACCEPT_CACHE, rawAccept, ParsableMIMEValue::new);
+    }
     return accept;
   }
   @Override
   public List<ParsedHeaderValue> acceptCharset() {
+    if (acceptCharset == null) {
+      acceptCharset = parse(ACCEPT_CHARSET_CACHE, rawAcceptCharset, ParsableHeaderValue::new);
+    }
     return acceptCharset;
   }
   @Override
   public List<ParsedHeaderValue> acceptEncoding() {
+    if (acceptEncoding == null) {
+      acceptEncoding = parse(ACCEPT_ENCODING_CACHE, rawAcceptEncoding, ParsableHeaderValue::new);
+    }
     return acceptEncoding;
   }
   @Override
   public List<LanguageHeader> acceptLanguage() {
+    if (acceptLanguage == null) {
+      acceptLanguage = parse(ACCEPT_LANGUAGE_CACHE, rawAcceptLanguage, ParsableLanguageValue::new);
+    }
     return acceptLanguage;
   }
   @Override
   public ParsableMIMEValue contentType() {
+    if (contentType == null) {
+      contentType = new ParsableMIMEValue(rawContentType);
+    }
     return contentType;
   }
 
+  private static <T extends ParsedHeaderValue, V extends ParsableHeaderValue> List<T> parse(BoundedCache<String, List<T>> cache, String raw, Function<String, V> objectCreator) {
+    if (raw == null || raw.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (raw.length() > MAX_CACHED_LENGTH) {
+      return parse(raw, objectCreator);
+    }
+    return cache.get(raw, key -> Collections.unmodifiableList(ParsableHeaderValuesContainer.<T, V>parse(key, objectCreator)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends ParsedHeaderValue, V extends ParsableHeaderValue> List<T> parse(String raw, Function<String, V> objectCreator) {
+    List<V> values = HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(raw, objectCreator));
+    // the values are shared between requests, they must not be parsed lazily anymore
+    List<T> parsed = new ArrayList<>(values.size());
+    for (V value : values) {
+      parsed.add((T) value.forceParse());
+    }
+    return parsed;
+  }
+
   @Override
   public @Nullable MIMEHeader findBestUserAcceptedIn(List<MIMEHeader> userAccepted, Collection<MIMEHeader> in) {
     for (MIMEHeader acceptableType: userAccepted) {
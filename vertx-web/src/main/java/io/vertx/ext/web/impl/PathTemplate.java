@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import java.util.regex.Pattern;
+
+/**
+ * A segment based matcher for exact paths where every parameter takes a whole segment, e.g.:
+ * {@code /users/:id/orders/:orderId}.
+ * <p>
+ * It matches exactly the same paths as the regular expression generated by {@link RouteImpl} for such paths, without
+ * using the regex engine.
+ * <p>
+ * This class is immutable and thread-safe
+ */
+final class PathTemplate {
+
+  // chars that would keep their regex meaning in the generated pattern
+  private static final String REGEX_CHARS = "[]{}?|^\\*:";
+
+  // the segments of the path, a null entry is a parameter
+  private final String[] segments;
+  private final boolean significantSlash;
+
+  private PathTemplate(String[] segments, boolean significantSlash) {
+    this.segments = segments;
+    this.significantSlash = significantSlash;
+  }
+
+  /**
+   * Compiles an exact path into a template.
+   *
+   * @param path the route path
+   * @param varName the pattern parameter names must match
+   * @return the template or {@code null} if the path is not a simple segment template.
+   */
+  static PathTemplate compile(String path, Pattern varName) {
+    final boolean significantSlash = path.length() > 1 && path.charAt(path.length() - 1) == '/';
+    final String[] segments = path
+      .substring(1, significantSlash ? path.length() - 1 : path.length())
+      .split("/", -1);
+
+    for (int i = 0; i < segments.length; i++) {
+      final String segment = segments[i];
+      if (!segment.isEmpty() && segment.charAt(0) == ':') {
+        if (segment.indexOf('$') != -1 || !varName.matcher(segment).region(1, segment.length()).matches()) {
+          // typed parameter, a parameter followed by literal chars or a name that is escaped in the regex
+          return null;
+        }
+        segments[i] = null;
+      } else {
+        for (int j = 0; j < segment.length(); j++) {
+          if (REGEX_CHARS.indexOf(segment.charAt(j)) != -1) {
+            return null;
+          }
+        }
+      }
+    }
+
+    return new PathTemplate(segments, significantSlash);
+  }
+
+  /**
+   * @return the number of parameters in the template.
+   */
+  int params() {
+    int params = 0;
+    for (String segment : segments) {
+      if (segment == null) {
+        params++;
+      }
+    }
+    return params;
+  }
+
+  /**
+   * @return the template segments, {@code null} entries are parameters.
+   */
+  String[] segments() {
+    return segments;
+  }
+
+  /**
+   * Matches the path, starting at the given offset.
+   */
+  boolean matches(String path, int from) {
+    int limit = path.length();
+
+    // the final slash is significant if the route path has it, otherwise it is optional
+    if (limit > from && path.charAt(limit - 1) == '/') {
+      limit--;
+    } else if (significantSlash) {
+      return false;
+    }
+
+    int pos = from;
+    for (String segment : segments) {
+      if (pos >= limit || path.charAt(pos) != '/') {
+        return false;
+      }
+      pos++;
+      if (segment != null) {
+        if (!path.startsWith(segment, pos)) {
+          return false;
+        }
+        pos += segment.length();
+      } else {
+        final int start = pos;
+        while (pos < limit && path.charAt(pos) != '/') {
+          pos++;
+        }
+        if (pos == start) {
+          // parameters can't be empty
+          return false;
+        }
+      }
+    }
+
+    return pos == limit;
+  }
+}
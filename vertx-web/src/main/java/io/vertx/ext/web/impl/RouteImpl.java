@@ -88,12 +88,14 @@ public class RouteImpl implements Route {
   public Route path(String path) {
     checkPath(path);
     setPath(path);
+    checkReindex();
     return this;
   }
 
   @Override
   public Route pathRegex(String regex) {
     setRegex(regex);
+    checkReindex();
     return this;
   }
 
@@ -224,6 +226,7 @@ public class RouteImpl implements Route {
   @Override
   public synchronized Route useNormalizedPath(boolean useNormalizedPath) {
     state = state.setUseNormalizedPath(useNormalizedPath);
+    checkReindex();
     return this;
   }
 
@@ -283,6 +286,7 @@ public class RouteImpl implements Route {
   }
 
   private synchronized void setPath(String path) {
+    state = state.setPathTemplate(null);
     // See if the path is a wildcard "*" is present - If so we need to configure this path to be not exact
     if (path.charAt(path.length() - 1) != '*') {
       state = state.setExactPath(true);
@@ -307,10 +311,18 @@ public class RouteImpl implements Route {
       if (params != found) {
         throw new IllegalArgumentException("path param does not follow the variable naming rules, expected (" + params + ") found (" + found + ")");
       }
+      if (state.isExactPath()) {
+        // simple "/:param" segments can be matched without the regex engine
+        PathTemplate template = PathTemplate.compile(path, RE_VAR_NAME_PATTERN);
+        if (template != null && template.params() == state.getGroups().size()) {
+          state = state.setPathTemplate(template);
+        }
+      }
     }
   }
 
   private synchronized void setRegex(String regex) {
+    state = state.setPathTemplate(null);
     state = state.setPattern(Pattern.compile(regex));
     state = state.setExactPath(true);
     findNamedGroups(state.getPattern().pattern());
@@ -328,6 +340,8 @@ public class RouteImpl implements Route {
     "[A-Za-z_$][A-Za-z0-9_$-]*" :
     "[A-Za-z0-9_]+";
 
+  private static final Pattern RE_VAR_NAME_PATTERN = Pattern.compile(RE_VAR_NAME);
+
   // Pattern for :<token name> in path, optionally followed by a ::<type> annotation, e.g.: ":id::integer"
   private static final Pattern RE_TOKEN_SEARCH = Pattern.compile(":(" + RE_VAR_NAME + ")(?:::(" + RE_VAR_NAME + "))?");
 
@@ -414,6 +428,13 @@ public class RouteImpl implements Route {
     }
   }
 
+  private synchronized void checkReindex() {
+    // the router index depends on the path of the route
+    if (state.isAdded()) {
+      router.reindex(this);
+    }
+  }
+
   public synchronized RouteImpl setEmptyBodyPermittedWithConsumes(boolean emptyBodyPermittedWithConsumes) {
     state = state.setEmptyBodyPermittedWithConsumes(emptyBodyPermittedWithConsumes);
     return this;
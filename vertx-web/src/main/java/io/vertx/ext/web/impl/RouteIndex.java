@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.impl;
+
+import java.util.*;
+
+/**
+ * A compiled view of the routes of a {@link RouterState}, used to avoid calling {@link RouteState#matches} on routes
+ * that cannot possibly match the request path.
+ * <p>
+ * Routes whose path starts with a literal segment (e.g.: {@code /users/:id} or {@code /static/*}) are indexed by that
+ * first segment. Any other route (no path, regex, parameter or wildcard in the first segment, raw paths) is always a
+ * candidate. The index is a conservative filter: candidates are returned in the router order and are still checked
+ * with {@link RouteState#matches}, so the 404/405/406/415 semantics are unchanged.
+ * <p>
+ * This class is immutable and thread-safe
+ */
+final class RouteIndex {
+
+  private static final int[] EMPTY = new int[0];
+
+  // chars that keep their regex meaning in a parameterized path, see RouteImpl#createPatternRegex
+  private static final String REGEX_CHARS = "[]{}?|^\\*:";
+  // chars that are escaped when a parameterized path is converted to a pattern
+  private static final String ESCAPED_CHARS = "()$+.";
+  private static final String QUANTIFIER_CHARS = "?*+{";
+
+  private final RouteImpl[] routes;
+  private final int[] always;
+  private final Map<String, int[]> segments;
+
+  RouteIndex(Collection<RouteImpl> routes) {
+    this.routes = routes.toArray(new RouteImpl[0]);
+
+    final List<Integer> always = new ArrayList<>();
+    final Map<String, List<Integer>> segments = new HashMap<>();
+
+    for (int i = 0; i < this.routes.length; i++) {
+      String segment = segment(this.routes[i].state());
+      if (segment == null) {
+        always.add(i);
+      } else {
+        segments.computeIfAbsent(segment, k -> new ArrayList<>()).add(i);
+      }
+    }
+
+    this.always = toArray(always);
+    this.segments = new HashMap<>(segments.size() * 2);
+    for (Map.Entry<String, List<Integer>> kv : segments.entrySet()) {
+      this.segments.put(kv.getKey(), toArray(kv.getValue()));
+    }
+  }
+
+  /**
+   * @return an iterator over the routes that may match the request of the given context, in router order.
+   */
+  Iterator<RouteImpl> iterator(RoutingContextImplBase context, String mountPoint) {
+    if (segments.isEmpty()) {
+      return new Candidates(always, EMPTY);
+    }
+
+    String path = context.normalizedPath();
+    if (mountPoint != null) {
+      int strip = mountPoint.length();
+      // mount point can have significant slash
+      if (mountPoint.charAt(strip - 1) == '/') {
+        strip--;
+      }
+      if (path.length() < strip) {
+        // let the routes decide how to handle it
+        return new Candidates(all(), EMPTY);
+      }
+      path = path.substring(strip);
+    }
+
+    if (path.isEmpty() || path.charAt(0) != '/') {
+      // let the routes decide how to handle it
+      return new Candidates(all(), EMPTY);
+    }
+
+    int end = path.indexOf('/', 1);
+    int[] bucket = segments.get(end == -1 ? path.substring(1) : path.substring(1, end));
+    return new Candidates(always, bucket == null ? EMPTY : bucket);
+  }
+
+  private int[] all() {
+    int[] all = new int[routes.length];
+    for (int i = 0; i < all.length; i++) {
+      all[i] = i;
+    }
+    return all;
+  }
+
+  /**
+   * Computes the literal first segment a request path must have for the given route to match.
+   *
+   * @return the segment or {@code null} when the route must always be checked.
+   */
+  private static String segment(RouteState state) {
+    final String path = state.getPath();
+
+    if (path == null || !state.isUseNormalizedPath()) {
+      return null;
+    }
+
+    int end = path.indexOf('/', 1);
+    if (end == -1) {
+      if (!state.isExactPath() || state.getPattern() != null) {
+        // prefix match (e.g.: "/foo*") or a pattern, the segment is not complete
+        return null;
+      }
+      end = path.length();
+    }
+
+    if (end <= 1) {
+      // root path, matches the mount point itself
+      return null;
+    }
+
+    final String segment = path.substring(1, end);
+
+    if (state.getPattern() != null) {
+      // the pattern must have been generated from the path, which requires the segment to be a regex literal
+      final StringBuilder literal = new StringBuilder(segment.length() + 8).append('/');
+      for (int i = 0; i < segment.length(); i++) {
+        final char c = segment.charAt(i);
+        if (REGEX_CHARS.indexOf(c) != -1) {
+          return null;
+        }
+        if (ESCAPED_CHARS.indexOf(c) != -1) {
+          literal.append('\\');
+        }
+        literal.append(c);
+      }
+      literal.append('/');
+
+      final String regex = state.getPattern().pattern();
+      if (!regex.startsWith(literal.toString()) || hasTopLevelAlternation(regex)) {
+        return null;
+      }
+      // the trailing slash must not be quantified
+      if (regex.length() > literal.length() && QUANTIFIER_CHARS.indexOf(regex.charAt(literal.length())) != -1) {
+        return null;
+      }
+    }
+
+    return segment;
+  }
+
+  private static boolean hasTopLevelAlternation(String regex) {
+    int depth = 0;
+    boolean inClass = false;
+    for (int i = 0; i < regex.length(); i++) {
+      switch (regex.charAt(i)) {
+        case '\\':
+          i++;
+          break;
+        case '[':
+          inClass = true;
+          break;
+        case ']':
+          inClass = false;
+          break;
+        case '(':
+          if (!inClass) {
+            depth++;
+          }
+          break;
+        case ')':
+          if (!inClass) {
+            depth--;
+          }
+          break;
+        case '|':
+          if (!inClass && depth == 0) {
+            return true;
+          }
+          break;
+      }
+    }
+    return false;
+  }
+
+  private static int[] toArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  /**
+   * Merges the always candidates with a segment bucket, keeping the router order.
+   */
+  private final class Candidates implements Iterator<RouteImpl> {
+
+    private final int[] a;
+    private final int[] b;
+    private int i;
+    private int j;
+
+    Candidates(int[] a, int[] b) {
+      this.a = a;
+      this.b = b;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return i < a.length || j < b.length;
+    }
+
+    @Override
+    public RouteImpl next() {
+      if (i < a.length) {
+        if (j < b.length && b[j] < a[i]) {
+          return routes[b[j++]];
+        }
+        return routes[a[i++]];
+      }
+      if (j < b.length) {
+        return routes[b[j++]];
+      }
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package io.vertx.ext.web.impl;
 
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.ContextInternal;
@@ -25,6 +26,7 @@ import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.internal.net.RFC3986;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.ParsedHeaderValues;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.*;
@@ -44,6 +46,13 @@ final class RouteState {
 
   private static final Logger LOG = LoggerFactory.getLogger(RouteState.class);
 
+  // bounds of the memoized content negotiation of each route
+  private static final int MAX_NEGOTIATION_CACHE_SIZE = 64;
+  private static final int MAX_NEGOTIATION_KEY_LENGTH = 512;
+  // marks an Accept header that cannot be satisfied, compared by identity
+  private static final MIMEHeader NOT_ACCEPTABLE = new ParsableMIMEValue("*/*").forceParse();
+  // marks an Accept header without any media type, which is not negotiated, compared by identity
+  private static final MIMEHeader NOT_NEGOTIATED = new ParsableMIMEValue("*/*").forceParse();
 
   enum Priority {
     PLATFORM,
@@ -105,8 +114,14 @@ final class RouteState {
   private final boolean exclusive;
   private final boolean exactPath;
   private final Router subRouter;
+  private final PathTemplate pathTemplate;
 
-  private RouteState(RouteImpl route, Map<String, Object> metadata, String path, String name, int order, boolean enabled, Set<HttpMethod> methods, Set<MIMEHeader> consumes, boolean emptyBodyPermittedWithConsumes, Set<MIMEHeader> produces, List<Handler<RoutingContext>> contextHandlers, List<Handler<RoutingContext>> failureHandlers, boolean added, Pattern pattern, List<String> groups, boolean useNormalizedPath, Set<String> namedGroupsInRegex, Pattern virtualHostPattern, boolean pathEndsWithSlash, boolean exclusive, boolean exactPath, Router subRouter) {
+  // memoized content negotiation, keyed by the raw Content-Type and Accept headers, created on first use since the
+  // consumed and produced types of a new state can still be updated
+  private BoundedCache<String, Boolean> consumesCache;
+  private BoundedCache<String, MIMEHeader> producesCache;
+
+  private RouteState(RouteImpl route, Map<String, Object> metadata, String path, String name, int order, boolean enabled, Set<HttpMethod> methods, Set<MIMEHeader> consumes, boolean emptyBodyPermittedWithConsumes, Set<MIMEHeader> produces, List<Handler<RoutingContext>> contextHandlers, List<Handler<RoutingContext>> failureHandlers, boolean added, Pattern pattern, List<String> groups, boolean useNormalizedPath, Set<String> namedGroupsInRegex, Pattern virtualHostPattern, boolean pathEndsWithSlash, boolean exclusive, boolean exactPath, Router subRouter, PathTemplate pathTemplate) {
     this.route = route;
     this.metadata = metadata;
     this.path = path;
@@ -129,6 +144,7 @@ final class RouteState {
     this.exclusive = exclusive;
     this.exactPath = exactPath;
     this.subRouter = subRouter;
+    this.pathTemplate = pathTemplate;
   }
 
   RouteState(RouteImpl route, int order) {
@@ -154,6 +170,7 @@ final class RouteState {
       false,
       false,
       true,
+      null,
       null);
   }
 
@@ -195,7 +212,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public Map<String, Object> getMetadata() {
@@ -229,7 +247,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public int getOrder() {
@@ -259,7 +278,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public boolean isEnabled() {
@@ -289,7 +309,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public Set<HttpMethod> getMethods() {
@@ -319,7 +340,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public RouteState addMethod(HttpMethod method) {
@@ -345,7 +367,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.methods.add(method);
     return newState;
@@ -378,7 +401,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addConsume(MIMEHeader mime) {
@@ -404,7 +428,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.consumes.add(mime);
     return newState;
@@ -437,7 +462,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public Set<MIMEHeader> getProduces() {
@@ -467,7 +493,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addProduce(MIMEHeader mime) {
@@ -493,7 +520,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.produces.add(mime);
     return newState;
@@ -530,7 +558,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addContextHandler(Handler<RoutingContext> contextHandler) {
@@ -556,7 +585,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     int len = newState.contextHandlers.size();
     final Priority weight = weight(contextHandler);
@@ -623,7 +653,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addFailureHandler(Handler<RoutingContext> failureHandler) {
@@ -649,7 +680,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.failureHandlers.add(failureHandler);
     return newState;
@@ -682,7 +714,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public Pattern getPattern() {
@@ -712,7 +745,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public List<String> getGroups() {
@@ -742,7 +776,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addGroup(String group) {
@@ -768,7 +803,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.groups.add(group);
     return newState;
@@ -801,7 +837,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public Set<String> getNamedGroupsInRegex() {
@@ -831,7 +868,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   RouteState addNamedGroupInRegex(String namedGroupInRegex) {
@@ -857,7 +895,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
 
     newState.namedGroupsInRegex.add(namedGroupInRegex);
     return newState;
@@ -890,7 +929,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public boolean isPathEndsWithSlash() {
@@ -920,7 +960,8 @@ final class RouteState {
       pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public boolean isExclusive() {
@@ -954,7 +995,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      subRouter);
+      subRouter,
+      this.pathTemplate);
   }
 
   RouteState setExclusive(boolean exclusive) {
@@ -980,7 +1022,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   public boolean isExactPath() {
@@ -1010,8 +1053,41 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
+
+  public PathTemplate getPathTemplate() {
+    return pathTemplate;
+  }
+
+  RouteState setPathTemplate(PathTemplate pathTemplate) {
+    return new RouteState(
+      this.route,
+      this.metadata,
+      this.path,
+      this.name,
+      this.order,
+      this.enabled,
+      this.methods,
+      this.consumes,
+      this.emptyBodyPermittedWithConsumes,
+      this.produces,
+      this.contextHandlers,
+      this.failureHandlers,
+      this.added,
+      this.pattern,
+      this.groups,
+      this.useNormalizedPath,
+      this.namedGroupsInRegex,
+      this.virtualHostPattern,
+      this.pathEndsWithSlash,
+      this.exclusive,
+      this.exactPath,
+      this.subRouter,
+      pathTemplate);
+  }
+
   RouteState setName(String name) {
     return new RouteState(
       this.route,
@@ -1035,7 +1111,8 @@ final class RouteState {
       this.pathEndsWithSlash,
       this.exclusive,
       this.exactPath,
-      this.subRouter);
+      this.subRouter,
+      this.pathTemplate);
   }
 
   private boolean containsMethod(HttpServerRequest request) {
@@ -1064,7 +1141,25 @@ final class RouteState {
     if (path != null && pattern == null && !pathMatches(mountPoint, context)) {
       return 404;
     }
-    if (pattern != null) {
+    if (pathTemplate != null) {
+      // need to reset "rest"
+      context.pathParams()
+        .remove("*");
+
+      final String path = useNormalizedPath ? context.normalizedPath() : context.request().path();
+      final int from = mountOffset(mountPoint);
+      if (path == null || path.length() < from || !pathTemplate.matches(path, from)) {
+        return 404;
+      }
+      if (!isEmpty(methods) && !containsMethod(request)) {
+        // If I'm here path matches, but the method is wrong
+        return 405;
+      }
+
+      context.matchRest = -1;
+      context.normalizedMatch = useNormalizedPath;
+      addTemplatePathParams(context, path, from);
+    } else if (pattern != null) {
       // need to reset "rest"
       context.pathParams()
         .remove("*");
@@ -1158,21 +1253,24 @@ final class RouteState {
 
     if (!isEmpty(consumes)) {
       // Can this route consume the specified content type
-      MIMEHeader contentType = context.parsedHeaders().contentType();
-      MIMEHeader consumal = contentType.findMatchedBy(consumes);
-      if (consumal == null && !(contentType.rawValue().isEmpty() && emptyBodyPermittedWithConsumes)) {
+      String contentType = context.request().getHeader(HttpHeaders.CONTENT_TYPE);
+      if (contentType == null) {
+        contentType = "";
+      }
+      if (!consumes(context, contentType) && !(contentType.isEmpty() && emptyBodyPermittedWithConsumes)) {
         return 415;
       }
     }
     if (!isEmpty(produces)) {
-      List<MIMEHeader> acceptableTypes = context.parsedHeaders().accept();
-      if(!acceptableTypes.isEmpty()) {
-        MIMEHeader selectedAccept = context.parsedHeaders().findBestUserAcceptedIn(acceptableTypes, produces);
-        if (selectedAccept != null) {
-          context.setAcceptableContentType(selectedAccept.rawValue());
-        } else {
+      String accept = context.request().getHeader(HttpHeaders.ACCEPT);
+      if (accept != null && !accept.isEmpty()) {
+        MIMEHeader selectedAccept = produces(context, accept);
+        if (selectedAccept == NOT_ACCEPTABLE) {
           return 406;
         }
+        if (selectedAccept != NOT_NEGOTIATED) {
+          context.setAcceptableContentType(selectedAccept.rawValue());
+        }
       }
     }
     if (!virtualHostMatches(context.request())) {
@@ -1181,6 +1279,79 @@ final class RouteState {
     return 0;
   }
 
+  private boolean consumes(RoutingContextImplBase context, String contentType) {
+    if (contentType.length() > MAX_NEGOTIATION_KEY_LENGTH) {
+      return consumes(context);
+    }
+    BoundedCache<String, Boolean> cache = consumesCache;
+    if (cache == null) {
+      // racy initialization, a concurrent lookup at worst uses its own cache once
+      consumesCache = cache = new BoundedCache<>(MAX_NEGOTIATION_CACHE_SIZE);
+    }
+    return cache.get(contentType, key -> consumes(context));
+  }
+
+  private boolean consumes(RoutingContextImplBase context) {
+    return context.parsedHeaders().contentType().findMatchedBy(consumes) != null;
+  }
+
+  /**
+   * @return the accepted content type, {@link #NOT_ACCEPTABLE}, or {@link #NOT_NEGOTIATED} when the header has no media
+   * type
+   */
+  private MIMEHeader produces(RoutingContextImplBase context, String accept) {
+    if (accept.length() > MAX_NEGOTIATION_KEY_LENGTH) {
+      return produces(context);
+    }
+    BoundedCache<String, MIMEHeader> cache = producesCache;
+    if (cache == null) {
+      // racy initialization, a concurrent lookup at worst uses its own cache once
+      producesCache = cache = new BoundedCache<>(MAX_NEGOTIATION_CACHE_SIZE);
+    }
+    return cache.get(accept, key -> produces(context));
+  }
+
+  private MIMEHeader produces(RoutingContextImplBase context) {
+    ParsedHeaderValues parsedHeaders = context.parsedHeaders();
+    List<MIMEHeader> acceptableTypes = parsedHeaders.accept();
+    if (acceptableTypes.isEmpty()) {
+      return NOT_NEGOTIATED;
+    }
+    MIMEHeader selectedAccept = parsedHeaders.findBestUserAcceptedIn(acceptableTypes, produces);
+    return selectedAccept != null ? selectedAccept : NOT_ACCEPTABLE;
+  }
+
+  private static int mountOffset(String mountPoint) {
+    if (mountPoint == null) {
+      return 0;
+    }
+    int strip = mountPoint.length();
+    // mount point can have significant slash
+    if (mountPoint.charAt(strip - 1) == '/') {
+      strip--;
+    }
+    return strip;
+  }
+
+  private void addTemplatePathParams(RoutingContext context, String path, int pos) {
+    // the path is known to match, so the values are between the slashes
+    int param = 0;
+    for (String segment : pathTemplate.segments()) {
+      // skip the separator
+      pos++;
+      if (segment != null) {
+        pos += segment.length();
+      } else {
+        int end = path.indexOf('/', pos);
+        if (end == -1) {
+          end = path.length();
+        }
+        addPathParam(context, groups.get(param++), path.substring(pos, end));
+        pos = end;
+      }
+    }
+  }
+
   private boolean pathMatches(String mountPoint, RoutingContext ctx) {
     final boolean rootRouter = mountPoint == null;
     final boolean pathEndsWithSlash;
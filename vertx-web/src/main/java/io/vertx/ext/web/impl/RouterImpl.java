@@ -65,7 +65,7 @@ public class RouterImpl implements Router {
       LOG.trace("Router: " + System.identityHashCode(this) + " accepting request " + request.method() + " " + request.absoluteURI());
     }
 
-    RoutingContextImpl routingContext = new RoutingContextImpl(null, this, request, state.getRoutes());
+    RoutingContextImpl routingContext = new RoutingContextImpl(null, this, request, state.getRouteIndex());
     routingContext.route();
   }
 
@@ -248,13 +248,13 @@ public class RouterImpl implements Router {
   @Override
   public void handleContext(RoutingContext ctx) {
     final RoutingContextInternal ctxi = (RoutingContextInternal) ctx;
-    new RoutingContextWrapper(getAndCheckRoutePath(ctxi), state.getRoutes(), ctxi, this).next();
+    new RoutingContextWrapper(getAndCheckRoutePath(ctxi), state.getRouteIndex(), ctxi, this).next();
   }
 
   @Override
   public void handleFailure(RoutingContext ctx) {
     final RoutingContextInternal ctxi = (RoutingContextInternal) ctx;
-    new RoutingContextWrapper(getAndCheckRoutePath(ctxi), state.getRoutes(), ctxi, this).next();
+    new RoutingContextWrapper(getAndCheckRoutePath(ctxi), state.getRouteIndex(), ctxi, this).next();
   }
 
   @Override
@@ -323,8 +323,15 @@ public class RouterImpl implements Router {
     return vertx;
   }
 
-  Iterator<RouteImpl> iterator() {
-    return state.getRoutes().iterator();
+  Iterator<RouteImpl> iterator(RoutingContextImplBase context) {
+    return state.getRouteIndex().iterator(context, context.mountPoint());
+  }
+
+  synchronized void reindex(RouteImpl route) {
+    // a route already in the router changed its path, the compiled index must be updated
+    if (state.getRoutes().contains(route)) {
+      state = state.reindex();
+    }
   }
 
   Handler<RoutingContext> getErrorHandlerByStatusCode(int statusCode) {
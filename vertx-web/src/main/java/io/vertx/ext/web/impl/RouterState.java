@@ -61,6 +61,8 @@ final class RouterState {
   private final Handler<Router> modifiedHandler;
   private final AllowForwardHeaders allowForward;
   private final Map<String, Object> metadata;
+  // compiled lazily from the routes, as intermediate states are created while the router is being configured
+  private volatile RouteIndex routeIndex;
 
   public RouterState(RouterImpl router, TreeSet<RouteImpl> routes, int orderSequence, Map<Integer, Handler<RoutingContext>> errorHandlers, final Handler<RoutingContext> uncaughtErrorHandler, Handler<Router> modifiedHandler, AllowForwardHeaders allowForward, Map<String, Object> metadata) {
     this.router = router;
@@ -159,6 +161,27 @@ final class RouterState {
       this.metadata);
   }
 
+  RouteIndex getRouteIndex() {
+    RouteIndex routeIndex = this.routeIndex;
+    if (routeIndex == null) {
+      routeIndex = new RouteIndex(getRoutes());
+      this.routeIndex = routeIndex;
+    }
+    return routeIndex;
+  }
+
+  RouterState reindex() {
+    return new RouterState(
+      this.router,
+      this.routes,
+      this.orderSequence,
+      this.errorHandlers,
+      this.uncaughtErrorHandler,
+      this.modifiedHandler,
+      this.allowForward,
+      this.metadata);
+  }
+
   public int getOrderSequence() {
     return orderSequence;
   }
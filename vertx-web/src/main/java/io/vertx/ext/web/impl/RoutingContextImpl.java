@@ -67,7 +67,7 @@ public class RoutingContextImpl extends RoutingContextImplBase {
   private volatile boolean isSessionAccessed = false;
   private volatile boolean endHandlerCalled = false;
 
-  public RoutingContextImpl(String mountPoint, RouterImpl router, HttpServerRequest request, Set<RouteImpl> routes) {
+  public RoutingContextImpl(String mountPoint, RouterImpl router, HttpServerRequest request, RouteIndex routes) {
     super(mountPoint, routes, router);
     this.router = router;
     this.request = new HttpServerRequestWrapper(request, router.getAllowForward(), this);
@@ -100,26 +100,6 @@ public class RoutingContextImpl extends RoutingContextImplBase {
     }
   }
 
-  private String ensureNotNull(String string) {
-    return string == null ? "" : string;
-  }
-
-  private void fillParsedHeaders(HttpServerRequest request) {
-    String accept = request.getHeader(HttpHeaders.ACCEPT);
-    String acceptCharset = request.getHeader(HttpHeaders.ACCEPT_CHARSET);
-    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
-    String acceptLanguage = request.getHeader(HttpHeaders.ACCEPT_LANGUAGE);
-    String contentType = ensureNotNull(request.getHeader(HttpHeaders.CONTENT_TYPE));
-
-    parsedHeaders = new ParsableHeaderValuesContainer(
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(accept, ParsableMIMEValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptCharset, ParsableHeaderValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptEncoding, ParsableHeaderValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptLanguage, ParsableLanguageValue::new)),
-      new ParsableMIMEValue(contentType)
-    );
-  }
-
   @Override
   public HttpServerRequest request() {
     return request;
@@ -359,7 +339,7 @@ public class RoutingContextImpl extends RoutingContextImplBase {
   @Override
   public ParsableHeaderValuesContainer parsedHeaders() {
     if (parsedHeaders == null) {
-      fillParsedHeaders(request);
+      parsedHeaders = ParsableHeaderValuesContainer.create(request);
     }
     return parsedHeaders;
   }
@@ -529,7 +509,7 @@ public class RoutingContextImpl extends RoutingContextImplBase {
   }
 
   private void doFail() {
-    this.iter = router.iterator();
+    this.iter = router.iterator(this);
     currentRoute = null;
     next();
   }
@@ -46,7 +46,7 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
 
   protected static final Logger LOG = LoggerFactory.getLogger(RoutingContext.class);
 
-  private final Set<RouteImpl> routes;
+  private final RouteIndex routes;
 
   protected final Router currentRouter;
   protected final String mountPoint;
@@ -69,10 +69,9 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
 
   protected Set<MIMEHeader> allowedContentTypes = new HashSet<>();
 
-  RoutingContextImplBase(String mountPoint, Set<RouteImpl> routes, Router currentRouter) {
+  RoutingContextImplBase(String mountPoint, RouteIndex routes, Router currentRouter) {
     this.mountPoint = mountPoint;
     this.routes = routes;
-    this.iter = routes.iterator();
     this.securityAudit = SecurityAudit.NOOP;
 
     this.currentRouter = currentRouter;
@@ -156,7 +155,8 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
   }
 
   void restart() {
-    this.iter = routes.iterator();
+    // candidates depend on the request path, they are computed once routing (re)starts
+    this.iter = null;
     currentRoute = null;
     next();
   }
@@ -193,6 +193,9 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
         return true;
       }
     }
+    if (iter == null) {
+      iter = routes.iterator(this, mountPoint());
+    }
     // Search for more handlers
     while (iter.hasNext()) {
       // state is locked at this moment
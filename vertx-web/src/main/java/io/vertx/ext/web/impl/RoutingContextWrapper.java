@@ -30,7 +30,6 @@ import io.vertx.ext.web.*;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -40,8 +39,8 @@ public class RoutingContextWrapper extends RoutingContextImplBase {
   protected final RoutingContextInternal inner;
   private final String mountPoint;
 
-  public RoutingContextWrapper(String mountPoint, Set<RouteImpl> iter, RoutingContextInternal inner, Router currentRouter) {
-    super(mountPoint, iter, currentRouter);
+  public RoutingContextWrapper(String mountPoint, RouteIndex routes, RoutingContextInternal inner, Router currentRouter) {
+    super(mountPoint, routes, currentRouter);
     this.inner = inner;
     String parentMountPoint = inner.mountPoint();
     if (parentMountPoint == null) {
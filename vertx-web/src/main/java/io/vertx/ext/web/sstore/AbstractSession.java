@@ -17,21 +17,18 @@
 package io.vertx.ext.web.sstore;
 
 import io.vertx.codegen.annotations.Nullable;
-import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.ext.auth.prng.VertxContextPRNG;
 import io.vertx.ext.web.Session;
-import io.vertx.ext.web.impl.Utils;
+import io.vertx.ext.web.sstore.impl.LegacySessionCodec;
 import io.vertx.ext.web.sstore.impl.SessionInternal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.zip.CRC32;
 
 /**
  * The abstract session class provides a barebones implementation for session storage implementors.
@@ -47,24 +44,12 @@ import java.util.function.Function;
  */
 public abstract class AbstractSession implements Session, SessionInternal {
 
-  private static final Charset UTF8 = StandardCharsets.UTF_8;
-
-  private static final byte TYPE_LONG = 1;
-  private static final byte TYPE_INT = 2;
-  private static final byte TYPE_SHORT = 3;
-  private static final byte TYPE_BYTE = 4;
-  private static final byte TYPE_DOUBLE = 5;
-  private static final byte TYPE_FLOAT = 6;
-  private static final byte TYPE_CHAR = 7;
-  private static final byte TYPE_BOOLEAN = 8;
-  private static final byte TYPE_STRING = 9;
-  private static final byte TYPE_BUFFER = 10;
-  private static final byte TYPE_BYTES = 11;
-  private static final byte TYPE_CLUSTER_SERIALIZABLE = 13;
+  private static final SessionCodec DEFAULT_CODEC = loadCodec();
 
   private static final char[] HEX = "0123456789abcdef".toCharArray();
 
   private VertxContextPRNG prng;
+  private SessionCodec codec = DEFAULT_CODEC;
 
   private String id;
   private long timeout;
@@ -84,6 +69,7 @@ public abstract class AbstractSession implements Session, SessionInternal {
     if (data != null) {
       this.data = data;
       this.crc = checksum();
+      this.baseline = snapshot();
     }
   }
 
@@ -106,6 +92,8 @@ public abstract class AbstractSession implements Session, SessionInternal {
   private boolean renewed;
   private String oldId;
   private int crc;
+  // per key checksums of the data as last loaded or stored, null when unknown
+  private Map<String, Integer> baseline;
 
   /**
    * This constructor is <b>mandatory</b> (even though not referenced anywhere) is required for
@@ -130,6 +118,19 @@ public abstract class AbstractSession implements Session, SessionInternal {
     this.prng = prng;
   }
 
+  /**
+   * Set the codec used to write the session data, all the nodes sharing a backend must use the same codec.
+   *
+   * @param codec the codec
+   */
+  public void setCodec(SessionCodec codec) {
+    this.codec = Objects.requireNonNull(codec, "codec cannot be null");
+  }
+
+  protected SessionCodec codec() {
+    return codec;
+  }
+
   @Override
   public void flushed(boolean skipCrc) {
     renewed = false;
@@ -139,6 +140,8 @@ public abstract class AbstractSession implements Session, SessionInternal {
       }
       oldId = null;
     }
+    // the session is not used anymore, avoid the snapshot
+    baseline = skipCrc ? null : snapshot();
   }
 
   @Override
@@ -281,6 +284,111 @@ public abstract class AbstractSession implements Session, SessionInternal {
     }
   }
 
+  /**
+   * Tells if the changes to the session data are tracked, that is if the data has been loaded from or stored to a
+   * backend since this object was created.
+   *
+   * @return true if {@link #changedKeys()} and {@link #removedKeys()} can be used for a partial update
+   */
+  public boolean isTracked() {
+    return baseline != null;
+  }
+
+  /**
+   * @return the keys added or modified since the session data was last loaded or stored, all the keys if the session
+   * is not {@link #isTracked() tracked}.
+   */
+  public Set<String> changedKeys() {
+    if (isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Set<String> changed = new HashSet<>();
+    for (Map.Entry<String, Object> kv : data.entrySet()) {
+      if (baseline == null) {
+        changed.add(kv.getKey());
+      } else {
+        Integer known = baseline.get(kv.getKey());
+        if (known == null || known != hash(kv.getValue())) {
+          changed.add(kv.getKey());
+        }
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @return the keys removed since the session data was last loaded or stored.
+   */
+  public Set<String> removedKeys() {
+    if (baseline == null || baseline.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Map<String, Object> data = this.data;
+    final Set<String> removed = new HashSet<>();
+    for (String key : baseline.keySet()) {
+      if (data == null || !data.containsKey(key)) {
+        removed.add(key);
+      }
+    }
+    return removed;
+  }
+
+  private Map<String, Integer> snapshot() {
+    final Map<String, Object> data = this.data;
+    if (data == null || data.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Map<String, Integer> snapshot = new HashMap<>(data.size() * 2);
+    for (Map.Entry<String, Object> kv : data.entrySet()) {
+      snapshot.put(kv.getKey(), hash(kv.getValue()));
+    }
+    return snapshot;
+  }
+
+  /**
+   * A hash of the content of a value, unlike the hash code of arrays and of the {@code ClusterSerializable} values not
+   * overriding it, which does not change when the value is modified in place.
+   */
+  private static int hash(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Double
+      || value instanceof Boolean || value instanceof Character || value instanceof Float || value instanceof Short
+      || value instanceof Byte || value instanceof Buffer || value instanceof JsonObject || value instanceof JsonArray) {
+      return value.hashCode();
+    }
+    if (value instanceof byte[]) {
+      return Arrays.hashCode((byte[]) value);
+    }
+    final Buffer serialized = Buffer.buffer();
+    try {
+      LegacySessionCodec.writeValue(serialized, value);
+    } catch (IllegalStateException e) {
+      // not a session value, storing the session fails anyway
+      return value.hashCode();
+    }
+    final CRC32 crc = new CRC32();
+    crc.update(serialized.getBytes());
+    return (int) crc.getValue();
+  }
+
+  private static SessionCodec loadCodec() {
+    if ("legacy".equals(System.getProperty(SessionCodec.CODEC_PROPERTY))) {
+      // nodes running a previous version share the backend
+      return SessionCodec.legacy();
+    }
+    try {
+      Iterator<SessionCodec> it = ServiceLoader.load(SessionCodec.class).iterator();
+      if (it.hasNext()) {
+        return it.next();
+      }
+    } catch (RuntimeException e) {
+      // ignore that it cannot be loaded, falling back to the default
+    }
+    return SessionCodec.compact();
+  }
+
   private static String generateId(VertxContextPRNG rng, int length) {
     final byte[] bytes = new byte[length];
     rng.nextBytes(bytes);
@@ -310,7 +418,7 @@ public abstract class AbstractSession implements Session, SessionInternal {
         result = 31 * result + key.hashCode();
         Object value = kv.getValue();
         if (value != null) {
-          result = 31 * result + value.hashCode();
+          result = 31 * result + hash(value);
         }
       }
 
@@ -319,151 +427,48 @@ public abstract class AbstractSession implements Session, SessionInternal {
   }
 
   protected void writeDataToBuffer(Buffer buffer) {
-    if (isEmpty()) {
-      buffer.appendInt(0);
+    codec.encode(isEmpty() ? Collections.emptyMap() : data(), buffer);
+  }
+
+  /**
+   * Writes a single session entry with the session codec, for stores that keep each entry separately.
+   *
+   * @param buffer the buffer to write to
+   * @param key the entry key
+   * @param val the value to write
+   */
+  protected void writeValueToBuffer(Buffer buffer, String key, Object val) {
+    codec.encode(Collections.singletonMap(key, val), buffer);
+  }
+
+  protected int readDataFromBuffer(int pos, Buffer buffer) {
+    // sessions stored by previous versions use the legacy format
+    final SessionCodec codec = this.codec.canDecode(pos, buffer) ? this.codec : LegacySessionCodec.INSTANCE;
+    final Map<String, Object> data = new ConcurrentHashMap<>();
+    pos = codec.decode(pos, buffer, data);
+    if (data.isEmpty()) {
+      baseline = Collections.emptyMap();
     } else {
-      final Map<String, Object> data = data();
-      buffer.appendInt(data.size());
-      for (Map.Entry<String, Object> entry : data.entrySet()) {
-        String key = entry.getKey();
-        byte[] keyBytes = key.getBytes(UTF8);
-        buffer.appendInt(keyBytes.length).appendBytes(keyBytes);
-        Object val = entry.getValue();
-        if (val instanceof Long) {
-          buffer.appendByte(TYPE_LONG).appendLong((long) val);
-        } else if (val instanceof Integer) {
-          buffer.appendByte(TYPE_INT).appendInt((int) val);
-        } else if (val instanceof Short) {
-          buffer.appendByte(TYPE_SHORT).appendShort((short) val);
-        } else if (val instanceof Byte) {
-          buffer.appendByte(TYPE_BYTE).appendByte((byte) val);
-        } else if (val instanceof Double) {
-          buffer.appendByte(TYPE_DOUBLE).appendDouble((double) val);
-        } else if (val instanceof Float) {
-          buffer.appendByte(TYPE_FLOAT).appendFloat((float) val);
-        } else if (val instanceof Character) {
-          buffer.appendByte(TYPE_CHAR).appendShort((short) ((Character) val).charValue());
-        } else if (val instanceof Boolean) {
-          buffer.appendByte(TYPE_BOOLEAN).appendByte((byte) ((boolean) val ? 1 : 0));
-        } else if (val instanceof String) {
-          byte[] bytes = ((String) val).getBytes(UTF8);
-          buffer.appendByte(TYPE_STRING).appendInt(bytes.length).appendBytes(bytes);
-        } else if (val instanceof Buffer) {
-          Buffer buff = (Buffer) val;
-          buffer.appendByte(TYPE_BUFFER).appendInt(buff.length()).appendBuffer(buff);
-        } else if (val instanceof byte[]) {
-          byte[] bytes = (byte[]) val;
-          buffer.appendByte(TYPE_BYTES).appendInt(bytes.length).appendBytes(bytes);
-        } else if (val instanceof ClusterSerializable) {
-          buffer.appendByte(TYPE_CLUSTER_SERIALIZABLE);
-          String className = val.getClass().getName();
-          byte[] classNameBytes = className.getBytes(UTF8);
-          buffer.appendInt(classNameBytes.length).appendBytes(classNameBytes);
-          ((ClusterSerializable) val).writeToBuffer(buffer);
-        } else {
-          if (val != null) {
-            throw new IllegalStateException("Invalid type for data in session: " + val.getClass());
-          }
-        }
-      }
+      setData(data);
     }
+    return pos;
   }
 
-  protected int readDataFromBuffer(int pos, Buffer buffer) {
-    try {
-      int entries = buffer.getInt(pos);
-      pos += 4;
-      if (entries > 0) {
-        final Map<String, Object> data = new ConcurrentHashMap<>(entries);
-
-        for (int i = 0; i < entries; i++) {
-          int keylen = buffer.getInt(pos);
-          pos += 4;
-          byte[] keyBytes = buffer.getBytes(pos, pos + keylen);
-          pos += keylen;
-          String key = new String(keyBytes, UTF8);
-          byte type = buffer.getByte(pos++);
-          Object val;
-          switch (type) {
-            case TYPE_LONG:
-              val = buffer.getLong(pos);
-              pos += 8;
-              break;
-            case TYPE_INT:
-              val = buffer.getInt(pos);
-              pos += 4;
-              break;
-            case TYPE_SHORT:
-              val = buffer.getShort(pos);
-              pos += 2;
-              break;
-            case TYPE_BYTE:
-              val = buffer.getByte(pos);
-              pos++;
-              break;
-            case TYPE_FLOAT:
-              val = buffer.getFloat(pos);
-              pos += 4;
-              break;
-            case TYPE_DOUBLE:
-              val = buffer.getDouble(pos);
-              pos += 8;
-              break;
-            case TYPE_CHAR:
-              short s = buffer.getShort(pos);
-              pos += 2;
-              val = (char) s;
-              break;
-            case TYPE_BOOLEAN:
-              byte b = buffer.getByte(pos);
-              pos++;
-              val = b == 1;
-              break;
-            case TYPE_STRING:
-              int len = buffer.getInt(pos);
-              pos += 4;
-              byte[] bytes = buffer.getBytes(pos, pos + len);
-              val = new String(bytes, UTF8);
-              pos += len;
-              break;
-            case TYPE_BUFFER:
-              len = buffer.getInt(pos);
-              pos += 4;
-              bytes = buffer.getBytes(pos, pos + len);
-              val = Buffer.buffer(bytes);
-              pos += len;
-              break;
-            case TYPE_BYTES:
-              len = buffer.getInt(pos);
-              pos += 4;
-              val = buffer.getBytes(pos, pos + len);
-              pos += len;
-              break;
-            case TYPE_CLUSTER_SERIALIZABLE:
-              int classNameLen = buffer.getInt(pos);
-              pos += 4;
-              byte[] classNameBytes = buffer.getBytes(pos, pos + classNameLen);
-              pos += classNameLen;
-              String className = new String(classNameBytes, UTF8);
-              Class<?> clazz = Utils.getClassLoader().loadClass(className);
-              if (!ClusterSerializable.class.isAssignableFrom(clazz)) {
-                throw new ClassCastException(new String(classNameBytes, StandardCharsets.UTF_8) + " is not assignable from ClusterSerializable");
-              }
-              ClusterSerializable obj = (ClusterSerializable) clazz.getDeclaredConstructor().newInstance();
-              pos = obj.readFromBuffer(pos, buffer);
-              val = obj;
-              break;
-            default:
-              throw new IllegalStateException("Invalid serialized type: " + type);
-          }
-          data.put(key, val);
-        }
-        setData(data);
-      }
-      return pos;
-    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException e) {
-      throw new VertxException(e);
+  /**
+   * Reads a session entry written by {@link #writeValueToBuffer(Buffer, String, Object)}, or by previous versions as
+   * a legacy type tag followed by the value.
+   *
+   * @param pos the position to read from
+   * @param buffer the buffer to read from
+   * @param key the entry key
+   * @param data the map the entry is added to
+   * @return the position after the value
+   */
+  protected int readValueFromBuffer(int pos, Buffer buffer, String key, Map<String, Object> data) throws ReflectiveOperationException {
+    if (codec.canDecode(pos, buffer)) {
+      return codec.decode(pos, buffer, data);
     }
+    return LegacySessionCodec.readValue(pos, buffer, key, data);
   }
 
   protected void readDataFromBuffer(Buffer buffer) {
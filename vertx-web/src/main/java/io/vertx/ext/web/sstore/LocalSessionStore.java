@@ -87,4 +87,18 @@ public interface LocalSessionStore extends SessionStore {
       .put("mapName", sessionMapName));
     return store;
   }
+
+  /**
+   * @return the duration, in nanoseconds, of the last run of the expired sessions reaper
+   */
+  default long reaperDuration() {
+    return 0L;
+  }
+
+  /**
+   * @return the number of expired sessions removed by the reaper since the store was created
+   */
+  default long reapedCount() {
+    return 0L;
+  }
 }
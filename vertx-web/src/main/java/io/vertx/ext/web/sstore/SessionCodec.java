@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.ext.web.sstore;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.sstore.impl.CompactSessionCodec;
+import io.vertx.ext.web.sstore.impl.LegacySessionCodec;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the data of a session when it is written to a backend, e.g. a cluster map, Redis or a cookie.
+ * <p>
+ * The codec used by {@link AbstractSession} is {@link #legacy()} when the {@value #CODEC_PROPERTY} system property is
+ * {@code legacy}, otherwise the first one found with the {@link java.util.ServiceLoader}, or {@link #compact()} when
+ * there is none. Data written by a codec that cannot be decoded by the configured codec is read with the
+ * {@link #legacy()} format, so sessions stored by previous versions can still be loaded.
+ * <p>
+ * All the nodes sharing a backend must use the same codec.
+ */
+public interface SessionCodec {
+
+  /**
+   * The system property selecting the codec, set it to {@code legacy} to keep writing sessions with the format of
+   * previous versions.
+   */
+  String CODEC_PROPERTY = "io.vertx.web.session.codec";
+
+  /**
+   * The default size in bytes above which the compact codec compresses the session data.
+   */
+  int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+  /**
+   * Create a compact codec using variable length integers, a dictionary of well known keys and class names, and
+   * compressing the data larger than {@link #DEFAULT_COMPRESSION_THRESHOLD}.
+   *
+   * @return the codec
+   */
+  static SessionCodec compact() {
+    return CompactSessionCodec.DEFAULT;
+  }
+
+  /**
+   * Create a compact codec.
+   *
+   * @param dictionary extra keys or class names replaced by a short reference, the order matters and entries can
+   *                   only be appended to keep reading stored sessions
+   * @param compressionThreshold the size in bytes above which the data is compressed, a non positive value disables
+   *                             compression
+   * @return the codec
+   */
+  static SessionCodec compact(List<String> dictionary, int compressionThreshold) {
+    return new CompactSessionCodec(dictionary, compressionThreshold);
+  }
+
+  /**
+   * The format used by previous versions, a type tag and fixed size integers for each entry. Use it while nodes
+   * running a previous version still share the backend, by setting the {@value #CODEC_PROPERTY} system property to
+   * {@code legacy}.
+   *
+   * @return the codec
+   */
+  static SessionCodec legacy() {
+    return LegacySessionCodec.INSTANCE;
+  }
+
+  /**
+   * Tells if the data at the given position has been written by this codec.
+   *
+   * @param pos the position to read from
+   * @param buffer the buffer to read from
+   * @return true if {@link #decode(int, Buffer, Map)} can read the data
+   */
+  boolean canDecode(int pos, Buffer buffer);
+
+  /**
+   * Appends the session data to the buffer.
+   *
+   * @param data the session data
+   * @param buffer the buffer to write to
+   */
+  void encode(Map<String, Object> data, Buffer buffer);
+
+  /**
+   * Reads the session data written by {@link #encode(Map, Buffer)}.
+   *
+   * @param pos the position to read from
+   * @param buffer the buffer to read from
+   * @param data the map the entries are added to
+   * @return the position after the data
+   */
+  int decode(int pos, Buffer buffer, Map<String, Object> data);
+}
@@ -27,6 +27,7 @@ import io.vertx.ext.web.sstore.impl.LocalSessionStoreImpl;
 
 import java.util.Iterator;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * A session store is used to store sessions for an Vert.x-Web web app
@@ -147,6 +148,21 @@ public interface SessionStore {
    */
   Future<Void> put(Session session);
 
+  /**
+   * Update a session previously loaded from or stored to this store, writing only the entries that changed.
+   * <p>
+   * The session id, timeout, last accessed time and version are always written. Stores that do not support partial
+   * updates write the whole session, which is the default behavior.
+   *
+   * @param session  the session
+   * @param changed  the keys added or modified since the session was loaded or stored
+   * @param removed  the keys removed since the session was loaded or stored
+   * @return future that will be called with a result, or a failure
+   */
+  default Future<Void> putDelta(Session session, Set<String> changed, Set<String> removed) {
+    return put(session);
+  }
+
   /**
    * Remove all sessions from the store.
    *
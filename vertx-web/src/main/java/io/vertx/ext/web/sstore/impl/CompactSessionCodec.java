@@ -0,0 +1,411 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.sstore.impl;
+
+import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.shareddata.ClusterSerializable;
+import io.vertx.ext.web.sstore.SessionCodec;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compact session format.
+ * <p>
+ * The data starts with a marker byte holding the format version, which can never be the first byte of the legacy
+ * format, then a flags byte. When the data is deflated, the flags are followed by the raw and deflated lengths and the
+ * deflated bytes. The raw data is the number of entries, then for each entry the key and a type tag followed by the
+ * value. Integers are variable length, zig-zag encoded when signed.
+ * <p>
+ * Keys and class names are written as a reference to a string table, {@code 0} being followed by a literal that is
+ * appended to the table. The table starts with the dictionary, so well known names are never written in full, and
+ * names repeated in a session are written once.
+ */
+public final class CompactSessionCodec implements SessionCodec {
+
+  /**
+   * Names known by version 1 of the format. Entries can only be appended.
+   */
+  private static final List<String> BUILTIN_DICTIONARY = Collections.unmodifiableList(Arrays.asList(
+    "__vertx.userHolder",
+    "X-XSRF-TOKEN",
+    "return_url",
+    "io.vertx.ext.web.handler.impl.UserHolder",
+    "io.vertx.core.json.JsonObject",
+    "io.vertx.core.json.JsonArray"
+  ));
+
+  public static final CompactSessionCodec DEFAULT = new CompactSessionCodec(Collections.emptyList(), DEFAULT_COMPRESSION_THRESHOLD);
+
+  private static final Charset UTF8 = StandardCharsets.UTF_8;
+
+  // high bit set, low bits hold the format version
+  private static final byte MAGIC = (byte) 0x81;
+  private static final byte FLAG_DEFLATED = 1;
+
+  private static final byte TYPE_LONG = 1;
+  private static final byte TYPE_INT = 2;
+  private static final byte TYPE_SHORT = 3;
+  private static final byte TYPE_BYTE = 4;
+  private static final byte TYPE_DOUBLE = 5;
+  private static final byte TYPE_FLOAT = 6;
+  private static final byte TYPE_CHAR = 7;
+  private static final byte TYPE_TRUE = 8;
+  private static final byte TYPE_FALSE = 9;
+  private static final byte TYPE_STRING = 10;
+  private static final byte TYPE_BUFFER = 11;
+  private static final byte TYPE_BYTES = 12;
+  private static final byte TYPE_CLUSTER_SERIALIZABLE = 13;
+
+  private final String[] dictionary;
+  private final Map<String, Integer> references;
+  private final int compressionThreshold;
+
+  public CompactSessionCodec(List<String> dictionary, int compressionThreshold) {
+    Objects.requireNonNull(dictionary, "dictionary cannot be null");
+    final List<String> names = new ArrayList<>(BUILTIN_DICTIONARY);
+    names.addAll(dictionary);
+    this.dictionary = names.toArray(new String[0]);
+    this.references = new HashMap<>(this.dictionary.length * 2);
+    for (int i = 0; i < this.dictionary.length; i++) {
+      // keep the first reference of a duplicate
+      references.putIfAbsent(this.dictionary[i], i + 1);
+    }
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  public boolean canDecode(int pos, Buffer buffer) {
+    return buffer.length() >= pos + 2 && buffer.getByte(pos) == MAGIC;
+  }
+
+  @Override
+  public void encode(Map<String, Object> data, Buffer buffer) {
+    final Buffer raw = Buffer.buffer();
+    final Writer writer = new Writer(raw);
+    writer.varInt(data.size());
+    for (Map.Entry<String, Object> entry : data.entrySet()) {
+      writer.name(entry.getKey());
+      writer.value(entry.getValue());
+    }
+
+    buffer.appendByte(MAGIC);
+    if (compressionThreshold > 0 && raw.length() > compressionThreshold) {
+      final byte[] bytes = raw.getBytes();
+      final byte[] deflated = deflate(bytes);
+      if (deflated != null) {
+        buffer.appendByte(FLAG_DEFLATED);
+        new Writer(buffer)
+          .varInt(bytes.length)
+          .varInt(deflated.length);
+        buffer.appendBytes(deflated);
+        return;
+      }
+    }
+    buffer.appendByte((byte) 0);
+    buffer.appendBuffer(raw);
+  }
+
+  @Override
+  public int decode(int pos, Buffer buffer, Map<String, Object> data) {
+    if (!canDecode(pos, buffer)) {
+      throw new IllegalStateException("Invalid session format: " + buffer.getByte(pos));
+    }
+    final byte flags = buffer.getByte(pos + 1);
+    final Reader reader;
+    final int end;
+    switch (flags) {
+      case 0:
+        reader = new Reader(buffer, pos + 2);
+        end = -1;
+        break;
+      case FLAG_DEFLATED:
+        final Reader header = new Reader(buffer, pos + 2);
+        final int rawLength = header.varInt();
+        final int deflatedLength = header.varInt();
+        reader = new Reader(Buffer.buffer(inflate(buffer.getBytes(header.pos, header.pos + deflatedLength), rawLength)), 0);
+        end = header.pos + deflatedLength;
+        break;
+      default:
+        throw new IllegalStateException("Invalid session format flags: " + flags);
+    }
+
+    try {
+      int entries = reader.varInt();
+      for (int i = 0; i < entries; i++) {
+        String key = reader.name();
+        data.put(key, reader.value());
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new VertxException(e);
+    }
+    return end == -1 ? reader.pos : end;
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      // only keep the deflated bytes when they are smaller
+      final byte[] out = new byte[bytes.length];
+      final int len = deflater.deflate(out);
+      if (!deflater.finished()) {
+        return null;
+      }
+      return Arrays.copyOf(out, len);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes, int rawLength) {
+    final Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(bytes);
+      final byte[] out = new byte[rawLength];
+      int len = 0;
+      while (len < rawLength) {
+        int n = inflater.inflate(out, len, rawLength - len);
+        if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        len += n;
+      }
+      if (len != rawLength) {
+        throw new IllegalStateException("Invalid deflated session data");
+      }
+      return out;
+    } catch (DataFormatException e) {
+      throw new IllegalStateException("Invalid deflated session data", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private final class Writer {
+
+    private final Buffer buffer;
+    // names written as literals, lazily created as most sessions only use the dictionary or unique keys
+    private Map<String, Integer> literals;
+
+    Writer(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    Writer varInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+      return this;
+    }
+
+    void varLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+    }
+
+    void signed(long value) {
+      varLong((value << 1) ^ (value >> 63));
+    }
+
+    void bytes(byte[] bytes) {
+      varInt(bytes.length);
+      buffer.appendBytes(bytes);
+    }
+
+    void name(String name) {
+      Integer ref = references.get(name);
+      if (ref == null && literals != null) {
+        ref = literals.get(name);
+      }
+      if (ref != null) {
+        varInt(ref);
+        return;
+      }
+      varInt(0);
+      bytes(name.getBytes(UTF8));
+      if (literals == null) {
+        literals = new HashMap<>();
+      }
+      literals.put(name, dictionary.length + literals.size() + 1);
+    }
+
+    void value(Object val) {
+      if (val instanceof Long) {
+        buffer.appendByte(TYPE_LONG);
+        signed((long) val);
+      } else if (val instanceof Integer) {
+        buffer.appendByte(TYPE_INT);
+        signed((int) val);
+      } else if (val instanceof Short) {
+        buffer.appendByte(TYPE_SHORT);
+        signed((short) val);
+      } else if (val instanceof Byte) {
+        buffer.appendByte(TYPE_BYTE).appendByte((byte) val);
+      } else if (val instanceof Double) {
+        buffer.appendByte(TYPE_DOUBLE).appendDouble((double) val);
+      } else if (val instanceof Float) {
+        buffer.appendByte(TYPE_FLOAT).appendFloat((float) val);
+      } else if (val instanceof Character) {
+        buffer.appendByte(TYPE_CHAR);
+        varInt((Character) val);
+      } else if (val instanceof Boolean) {
+        buffer.appendByte((boolean) val ? TYPE_TRUE : TYPE_FALSE);
+      } else if (val instanceof String) {
+        buffer.appendByte(TYPE_STRING);
+        bytes(((String) val).getBytes(UTF8));
+      } else if (val instanceof Buffer) {
+        Buffer buff = (Buffer) val;
+        buffer.appendByte(TYPE_BUFFER);
+        varInt(buff.length());
+        buffer.appendBuffer(buff);
+      } else if (val instanceof byte[]) {
+        buffer.appendByte(TYPE_BYTES);
+        bytes((byte[]) val);
+      } else if (val instanceof ClusterSerializable) {
+        buffer.appendByte(TYPE_CLUSTER_SERIALIZABLE);
+        name(val.getClass().getName());
+        ((ClusterSerializable) val).writeToBuffer(buffer);
+      } else {
+        throw new IllegalStateException("Invalid type for data in session: " + (val == null ? null : val.getClass()));
+      }
+    }
+  }
+
+  private final class Reader {
+
+    private final Buffer buffer;
+    private int pos;
+    private List<String> literals;
+
+    Reader(Buffer buffer, int pos) {
+      this.buffer = buffer;
+      this.pos = pos;
+    }
+
+    int varInt() {
+      int value = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        byte b = buffer.getByte(pos++);
+        value |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IllegalStateException("Invalid variable length integer");
+    }
+
+    long varLong() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = buffer.getByte(pos++);
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IllegalStateException("Invalid variable length integer");
+    }
+
+    long signed() {
+      long value = varLong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    byte[] bytes() {
+      int len = varInt();
+      byte[] bytes = buffer.getBytes(pos, pos + len);
+      pos += len;
+      return bytes;
+    }
+
+    String name() {
+      int ref = varInt();
+      if (ref == 0) {
+        int len = varInt();
+        String name = buffer.getString(pos, pos + len);
+        pos += len;
+        if (literals == null) {
+          literals = new ArrayList<>();
+        }
+        literals.add(name);
+        return name;
+      }
+      if (ref <= dictionary.length) {
+        return dictionary[ref - 1];
+      }
+      int idx = ref - dictionary.length - 1;
+      if (literals == null || idx >= literals.size()) {
+        throw new IllegalStateException("Invalid session name reference: " + ref);
+      }
+      return literals.get(idx);
+    }
+
+    Object value() throws ReflectiveOperationException {
+      byte type = buffer.getByte(pos++);
+      switch (type) {
+        case TYPE_LONG:
+          return signed();
+        case TYPE_INT:
+          return (int) signed();
+        case TYPE_SHORT:
+          return (short) signed();
+        case TYPE_BYTE:
+          return buffer.getByte(pos++);
+        case TYPE_DOUBLE:
+          double d = buffer.getDouble(pos);
+          pos += 8;
+          return d;
+        case TYPE_FLOAT:
+          float f = buffer.getFloat(pos);
+          pos += 4;
+          return f;
+        case TYPE_CHAR:
+          return (char) varInt();
+        case TYPE_TRUE:
+          return true;
+        case TYPE_FALSE:
+          return false;
+        case TYPE_STRING:
+          int len = varInt();
+          String s = buffer.getString(pos, pos + len);
+          pos += len;
+          return s;
+        case TYPE_BUFFER:
+          return Buffer.buffer(bytes());
+        case TYPE_BYTES:
+          return bytes();
+        case TYPE_CLUSTER_SERIALIZABLE:
+          ClusterSerializable obj = LegacySessionCodec.newClusterSerializable(name());
+          pos = obj.readFromBuffer(pos, buffer);
+          return obj;
+        default:
+          throw new IllegalStateException("Invalid serialized type: " + type);
+      }
+    }
+  }
+}
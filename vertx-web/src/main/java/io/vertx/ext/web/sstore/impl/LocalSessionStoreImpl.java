@@ -30,10 +30,21 @@ import io.vertx.ext.web.sstore.AbstractSession;
 import io.vertx.ext.web.sstore.LocalSessionStore;
 import io.vertx.ext.web.sstore.SessionStore;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
+ * Expired sessions are found with an index of the sessions by the reaper tick at which they expire, so a reaper run
+ * only looks at the sessions that are due instead of the whole map. A session is indexed when it is first stored
+ * through this store, or looked up and not indexed yet (e.g.: stored by another store sharing the same map). Storing
+ * a session again does not move it in the index: when the reaper finds it was accessed since, it is indexed again at
+ * the tick of its new expiration time, so each session has a single entry in the index.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, Handler<Long> {
@@ -56,6 +67,14 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
   private long timerID = -1;
   private boolean closed;
 
+  // session ids by the reaper tick at which they are checked, a deleted session can be left in its bucket
+  private final NavigableMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+  // the tick each session is currently scheduled for, never after its expiration time
+  private final ConcurrentMap<String, Long> scheduled = new ConcurrentHashMap<>();
+
+  private volatile long reaperDuration;
+  private volatile long reapedCount;
+
   private VertxInternal vertx;
 
   @Override
@@ -75,6 +94,8 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
     this.vertx = (VertxInternal) vertx;
     this.reaperInterval = options.getLong("reaperInterval", DEFAULT_REAPER_INTERVAL);
     localMap = vertx.sharedData().getLocalMap(options.getString("mapName", DEFAULT_SESSION_MAP_NAME));
+    // the map might be shared with other stores
+    localMap.forEach(this::schedule);
     setTimer();
 
     return this;
@@ -88,13 +109,18 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
   @Override
   public Future<@Nullable Session> get(String id) {
     final ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(localMap.get(id));
+    final Session session = localMap.get(id);
+    if (session != null && !scheduled.containsKey(id)) {
+      schedule(id, session);
+    }
+    return ctx.succeededFuture(session);
   }
 
   @Override
   public Future<Void> delete(String id) {
     final ContextInternal ctx = vertx.getOrCreateContext();
     localMap.remove(id);
+    scheduled.remove(id);
     return ctx.succeededFuture();
   }
 
@@ -113,6 +139,7 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
 
     newSession.incrementVersion();
     localMap.put(session.id(), session);
+    schedule(session.id(), session);
     return ctx.succeededFuture();
   }
 
@@ -120,6 +147,8 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
   public Future<Void> clear() {
     final ContextInternal ctx = vertx.getOrCreateContext();
     localMap.clear();
+    scheduled.clear();
+    buckets.clear();
     return ctx.succeededFuture();
   }
 
@@ -129,9 +158,21 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
     return ctx.succeededFuture(localMap.size());
   }
 
+  @Override
+  public long reaperDuration() {
+    return reaperDuration;
+  }
+
+  @Override
+  public long reapedCount() {
+    return reapedCount;
+  }
+
   @Override
   public synchronized void close() {
     localMap.close();
+    scheduled.clear();
+    buckets.clear();
     if (timerID != -1) {
       vertx.cancelTimer(timerID);
     }
@@ -140,24 +181,98 @@ public class LocalSessionStoreImpl implements SessionStore, LocalSessionStore, H
 
   @Override
   public synchronized void handle(Long tid) {
-    long now = System.currentTimeMillis();
+    final long start = System.nanoTime();
+    final long now = System.currentTimeMillis();
+    final long tick = now / reaperInterval;
+    long reaped = 0;
 
-    Set<String> toRemove = new HashSet<>();
+    Map.Entry<Long, Queue<String>> bucket;
+    while ((bucket = buckets.firstEntry()) != null && bucket.getKey() <= tick) {
+      final Queue<String> ids = bucket.getValue();
+      reaped += reap(bucket.getKey(), ids, now);
+      buckets.remove(bucket.getKey(), ids);
+      // ids added while the bucket was being removed
+      reaped += reap(bucket.getKey(), ids, now);
+    }
 
-    localMap.forEach((String id, Session session) -> {
-      if (now - session.lastAccessed() > session.timeout()) {
-        toRemove.add(id);
-      }
-    });
+    reapedCount += reaped;
+    reaperDuration = System.nanoTime() - start;
 
-    for (String id: toRemove) {
-      localMap.remove(id);
-    }
     if (!closed) {
       setTimer();
     }
   }
 
+  private int reap(long tick, Queue<String> ids, long now) {
+    int reaped = 0;
+    String id;
+    while ((id = ids.poll()) != null) {
+      final Long at = scheduled.get(id);
+      if (at == null || at != tick) {
+        // deleted or rescheduled
+        continue;
+      }
+      final Session session = localMap.get(id);
+      if (session == null) {
+        scheduled.remove(id, at);
+      } else if (now - session.lastAccessed() > session.timeout()) {
+        scheduled.remove(id, at);
+        if (localMap.remove(id, session)) {
+          reaped++;
+        }
+      } else {
+        // accessed since it was scheduled
+        final long next = tick(session);
+        if (scheduled.replace(id, at, next)) {
+          enqueue(next, id);
+        }
+      }
+    }
+    return reaped;
+  }
+
+  private void schedule(String id, Session session) {
+    if (reaperInterval <= 0) {
+      // no reaper
+      return;
+    }
+    final long tick = tick(session);
+    while (true) {
+      final Long previous = scheduled.putIfAbsent(id, tick);
+      if (previous == null) {
+        break;
+      }
+      if (previous <= tick) {
+        // the reaper schedules it again when it finds it was accessed since
+        return;
+      }
+      // expires earlier than scheduled, e.g.: stored again with a shorter timeout
+      if (scheduled.replace(id, previous, tick)) {
+        break;
+      }
+    }
+    enqueue(tick, id);
+  }
+
+  private long tick(Session session) {
+    final long lastAccessed = session.lastAccessed();
+    final long timeout = session.timeout();
+    final long expires = timeout > Long.MAX_VALUE - lastAccessed ? Long.MAX_VALUE : lastAccessed + timeout;
+    // the session is expired at the first tick after its expiration time
+    return Math.min(expires / reaperInterval, Long.MAX_VALUE - 1) + 1;
+  }
+
+  private void enqueue(long tick, String id) {
+    while (true) {
+      final Queue<String> ids = buckets.computeIfAbsent(tick, k -> new ConcurrentLinkedQueue<>());
+      ids.offer(id);
+      if (buckets.get(tick) == ids) {
+        return;
+      }
+      // the bucket was reaped concurrently, it might not have seen the id
+    }
+  }
+
   private void setTimer() {
     if (reaperInterval != 0) {
       timerID = vertx.setTimer(reaperInterval, this);
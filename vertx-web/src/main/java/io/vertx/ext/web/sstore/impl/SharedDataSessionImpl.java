@@ -16,6 +16,7 @@
 
 package io.vertx.ext.web.sstore.impl;
 
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.ClusterSerializable;
@@ -24,6 +25,8 @@ import io.vertx.ext.web.sstore.AbstractSession;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -50,16 +53,56 @@ public class SharedDataSessionImpl extends AbstractSession implements ClusterSer
 
   @Override
   public void writeToBuffer(Buffer buff) {
+    writeHeaderToBuffer(buff);
+    writeDataToBuffer(buff);
+  }
+
+  @Override
+  public int readFromBuffer(int pos, Buffer buffer) {
+    pos = readHeaderFromBuffer(pos, buffer);
+    pos = readDataFromBuffer(pos, buffer);
+    return pos;
+  }
+
+  /**
+   * Writes the session id, timeout, last accessed time and version, without the data.
+   *
+   * @param buff the buffer to write to
+   */
+  public void writeHeaderToBuffer(Buffer buff) {
+    writeHeaderToBuffer(buff, version());
+  }
+
+  /**
+   * Writes the session id, timeout, last accessed time and the given version, without the data.
+   *
+   * @param buff the buffer to write to
+   * @param version the version to write
+   */
+  public void writeHeaderToBuffer(Buffer buff, int version) {
     byte[] bytes = id().getBytes(UTF8);
     buff.appendInt(bytes.length).appendBytes(bytes);
     buff.appendLong(timeout());
     buff.appendLong(lastAccessed());
-    buff.appendInt(version());
-    writeDataToBuffer(buff);
+    buff.appendInt(version);
   }
 
-  @Override
-  public int readFromBuffer(int pos, Buffer buffer) {
+  /**
+   * @return the version {@link #incrementVersion()} would set, that is the current version incremented when the data
+   * changed since it was last stored
+   */
+  public int nextVersion() {
+    return checksum() != crc() ? version() + 1 : version();
+  }
+
+  /**
+   * Reads the session id, timeout, last accessed time and version written by {@link #writeHeaderToBuffer(Buffer)}.
+   *
+   * @param pos the position to read from
+   * @param buffer the buffer to read from
+   * @return the position after the header
+   */
+  public int readHeaderFromBuffer(int pos, Buffer buffer) {
     int len = buffer.getInt(pos);
     pos += 4;
     byte[] bytes = buffer.getBytes(pos, pos + len);
@@ -71,7 +114,33 @@ public class SharedDataSessionImpl extends AbstractSession implements ClusterSer
     pos += 8;
     setVersion(buffer.getInt(pos));
     pos += 4;
-    pos = readDataFromBuffer(pos, buffer);
     return pos;
   }
+
+  /**
+   * Writes a single entry with the session codec, for stores that keep each entry separately.
+   *
+   * @param key the entry key
+   * @param buff the buffer to write to
+   */
+  public void writeValueToBuffer(String key, Buffer buff) {
+    writeValueToBuffer(buff, key, data().get(key));
+  }
+
+  /**
+   * Reads the session data from entries written by {@link #writeValueToBuffer(String, Buffer)}.
+   *
+   * @param values the serialized value of each entry
+   */
+  public void readValuesFromBuffers(Map<String, Buffer> values) {
+    final Map<String, Object> data = new ConcurrentHashMap<>(values.size());
+    try {
+      for (Map.Entry<String, Buffer> kv : values.entrySet()) {
+        readValueFromBuffer(0, kv.getValue(), kv.getKey(), data);
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new VertxException(e);
+    }
+    setData(data);
+  }
 }
@@ -24,6 +24,7 @@ module io.vertx.web {
   requires io.vertx.web.common;
   requires io.vertx.eventbusbridge;
 
+  requires io.netty.buffer;
   requires io.netty.common;
   requires io.netty.codec;
   requires io.netty.codec.http;
@@ -52,5 +53,6 @@ module io.vertx.web {
   exports io.vertx.ext.web.handler.sockjs.impl to io.vertx.web.tests;
 
   uses io.vertx.ext.web.sstore.SessionStore;
+  uses io.vertx.ext.web.sstore.SessionCodec;
 
 }
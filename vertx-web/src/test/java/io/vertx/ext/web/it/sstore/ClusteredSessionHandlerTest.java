@@ -27,6 +27,7 @@ import io.vertx.ext.web.Session;
 import io.vertx.ext.web.handler.ProtocolUpgradeHandler;
 import io.vertx.ext.web.handler.SessionHandler;
 import io.vertx.ext.web.sstore.ClusteredSessionStore;
+import io.vertx.ext.web.sstore.SessionCodec;
 import io.vertx.ext.web.sstore.SessionStore;
 import io.vertx.ext.web.tests.handler.SessionHandlerTestBase;
 import io.vertx.ext.web.sstore.impl.SharedDataSessionImpl;
@@ -38,6 +39,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
@@ -206,6 +209,83 @@ public class ClusteredSessionHandlerTest extends SessionHandlerTestBase {
     assertEquals(session.id(), session2.id());
   }
 
+  @Test
+  public void testSessionSerializationLegacyFormat() {
+    SharedDataSessionImpl session = (SharedDataSessionImpl) store.createSession(123);
+    stuffSession(session);
+    session.setCodec(SessionCodec.legacy());
+    Buffer legacy = Buffer.buffer();
+    session.writeToBuffer(legacy);
+    session.setCodec(SessionCodec.compact());
+    Buffer compact = Buffer.buffer();
+    session.writeToBuffer(compact);
+    assertTrue(compact.length() < legacy.length(), compact.length() + " >= " + legacy.length());
+
+    // the default codec still reads the previous format
+    SharedDataSessionImpl session2 = (SharedDataSessionImpl) store.createSession(0);
+    assertEquals(legacy.length(), session2.readFromBuffer(0, legacy));
+    checkSession(session2);
+    assertEquals(session.id(), session2.id());
+  }
+
+  @Test
+  public void testSessionSerializationCompressed() {
+    SharedDataSessionImpl session = (SharedDataSessionImpl) store.createSession(123);
+    stuffSession(session);
+    StringBuilder large = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      large.append("some repeated session value ");
+    }
+    session.put("somelargestring", large.toString());
+    session.put("otherclusterserializable", new JsonObject().put("bar", "baz"));
+    session.setCodec(SessionCodec.compact(Collections.emptyList(), 0));
+    Buffer raw = Buffer.buffer();
+    session.writeToBuffer(raw);
+    session.setCodec(SessionCodec.compact());
+    Buffer compressed = Buffer.buffer();
+    session.writeToBuffer(compressed);
+    assertTrue(compressed.length() < raw.length(), compressed.length() + " >= " + raw.length());
+    // trailing data must be left untouched
+    compressed.appendInt(42);
+
+    SharedDataSessionImpl session2 = (SharedDataSessionImpl) store.createSession(0);
+    int pos = session2.readFromBuffer(0, compressed);
+    assertEquals(42, compressed.getInt(pos));
+    checkSession(session2);
+    assertEquals(large.toString(), session2.get("somelargestring"));
+    assertEquals("baz", session2.<JsonObject>get("otherclusterserializable").getString("bar"));
+  }
+
+  @Test
+  public void testSessionDeltaTracking() {
+    SharedDataSessionImpl session = (SharedDataSessionImpl) store.createSession(123);
+    session.put("kept", "value");
+    session.put("changed", 1);
+    session.put("removed", true);
+    // never stored, everything must be written
+    assertFalse(session.isTracked());
+
+    Buffer buffer = Buffer.buffer();
+    session.writeToBuffer(buffer);
+    SharedDataSessionImpl loaded = (SharedDataSessionImpl) store.createSession(0);
+    loaded.readFromBuffer(0, buffer);
+
+    assertTrue(loaded.isTracked());
+    assertTrue(loaded.changedKeys().isEmpty());
+    assertTrue(loaded.removedKeys().isEmpty());
+
+    loaded.put("changed", 2);
+    loaded.remove("removed");
+    loaded.put("added", "new");
+
+    assertEquals(new HashSet<>(Arrays.asList("changed", "added")), loaded.changedKeys());
+    assertEquals(Collections.singleton("removed"), loaded.removedKeys());
+
+    loaded.flushed(false);
+    assertTrue(loaded.changedKeys().isEmpty());
+    assertTrue(loaded.removedKeys().isEmpty());
+  }
+
   private void stuffSession(Session session) {
     session.put("somelong", 123456L);
     session.put("someint", 1234);
@@ -18,6 +18,7 @@ package io.vertx.ext.web.it.sstore;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Session;
 import io.vertx.ext.web.handler.SessionHandler;
 import io.vertx.ext.web.sstore.LocalSessionStore;
 import io.vertx.ext.web.tests.handler.SessionHandlerTestBase;
@@ -25,7 +26,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -63,4 +64,50 @@ public class LocalSessionHandlerTest extends SessionHandlerTestBase {
 
     testRequest(HttpMethod.GET, "/", 500, "Internal Server Error");
   }
+
+  @Test
+  public void testReaperRemovesDueSessions() throws Exception {
+    LocalSessionStore store = LocalSessionStore.create(vertx, "reaper-test", 10);
+    Session expiring = store.createSession(20);
+    Session kept = store.createSession(60_000);
+    store.put(expiring).await();
+    store.put(kept).await();
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (store.size().await() > 1 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertEquals(1, (int) store.size().await());
+    assertNull(store.get(expiring.id()).await());
+    assertNotNull(store.get(kept.id()).await());
+    assertEquals(1, store.reapedCount());
+    assertTrue(store.reaperDuration() > 0);
+    store.close();
+  }
+
+  @Test
+  public void testReaperKeepsAccessedSessions() throws Exception {
+    LocalSessionStore store = LocalSessionStore.create(vertx, "reaper-access-test", 10);
+    Session session = store.createSession(100);
+    store.put(session).await();
+
+    // accessed past the initial expiration time
+    long end = System.currentTimeMillis() + 400;
+    while (System.currentTimeMillis() < end) {
+      session.setAccessed();
+      store.put(session).await();
+      Thread.sleep(20);
+    }
+    assertNotNull(store.get(session.id()).await());
+    assertEquals(0, store.reapedCount());
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (store.size().await() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertNull(store.get(session.id()).await());
+    assertEquals(1, store.reapedCount());
+    store.close();
+  }
 }
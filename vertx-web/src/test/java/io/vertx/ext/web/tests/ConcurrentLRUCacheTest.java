@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.tests;
+
+import io.vertx.ext.web.impl.ConcurrentLRUCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLRUCacheTest {
+
+  @Test
+  public void testPut() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    for (int i = 0; i < 20; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+    assertEquals(10, cache.size());
+    for (int i = 10; i < 20; i++) {
+      assertEquals("value" + i, cache.get("key" + i));
+    }
+  }
+
+  @Test
+  public void testReferencedEntriesAreKept() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    for (int i = 0; i < 10; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+    assertEquals("value0", cache.get("key0"));
+    cache.put("key10", "value10");
+    assertEquals(10, cache.size());
+    assertEquals("value0", cache.get("key0"));
+    assertNull(cache.get("key1"));
+  }
+
+  @Test
+  public void testReplace() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    cache.put("key", "value1");
+    cache.put("key", "value2");
+    assertEquals(1, cache.size());
+    assertEquals("value2", cache.get("key"));
+  }
+
+  @Test
+  public void testRemove() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    for (int i = 0; i < 10; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+    for (int i = 0; i < 10; i++) {
+      cache.remove("key" + i);
+    }
+    assertEquals(0, cache.size());
+    assertNull(cache.get("key0"));
+  }
+
+  @Test
+  public void testRemovedEntriesAreNotEvicted() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    for (int i = 0; i < 10; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+    cache.remove("key0");
+    cache.put("key0", "other");
+    // the removed entry is skipped, the oldest live entry is evicted
+    cache.put("key10", "value10");
+    assertEquals(10, cache.size());
+    assertEquals("other", cache.get("key0"));
+    assertNull(cache.get("key1"));
+  }
+
+  @Test
+  public void testRepeatedRemove() {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+    for (int i = 0; i < 1000; i++) {
+      cache.put("key", "value" + i);
+      cache.remove("key");
+    }
+    assertEquals(0, cache.size());
+    cache.put("key", "value");
+    assertEquals("value", cache.get("key"));
+  }
+
+  @Test
+  public void testWeight() {
+    List<String> removed = new ArrayList<>();
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10, String::length, removed::add);
+    cache.put("key1", "aaaa");
+    cache.put("key2", "bbbb");
+    assertEquals(8, cache.weight());
+    cache.put("key2", "cc");
+    assertEquals(6, cache.weight());
+    assertEquals(List.of("bbbb"), removed);
+    // the oldest entry is evicted to make room
+    cache.put("key3", "ddddd");
+    assertEquals(7, cache.weight());
+    assertEquals(2, cache.size());
+    assertNull(cache.get("key1"));
+    assertEquals(List.of("bbbb", "aaaa"), removed);
+    cache.remove("key3", "other");
+    assertEquals("ddddd", cache.get("key3"));
+    cache.remove("key3", "ddddd");
+    assertNull(cache.get("key3"));
+    assertEquals(2, cache.weight());
+  }
+
+  @Test
+  public void testClear() {
+    List<String> removed = new ArrayList<>();
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10, String::length, removed::add);
+    cache.put("key1", "aaaa");
+    cache.put("key2", "bbbb");
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.weight());
+    assertEquals(List.of("aaaa", "bbbb"), removed.stream().sorted().collect(Collectors.toList()));
+    // the cleared entries are no longer evicted
+    cache.put("key3", "cccccccc");
+    cache.put("key4", "dd");
+    assertEquals(2, cache.size());
+    assertEquals(2, removed.size());
+  }
+
+  @Test
+  public void testConcurrentPuts() throws Exception {
+    ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(100);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int id = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          cache.put("key" + id + "-" + i, "value");
+          cache.get("key" + id + "-" + (i / 2));
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(cache.size() <= 100);
+  }
+
+  @Test
+  public void testCacheInvalidSize() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentLRUCache<>(0));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.web.tests;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the compiled route index keeps the linear routing semantics.
+ */
+public class RouterDispatchTest extends WebTestBase {
+
+  @Test
+  public void testOrderIsKeptAcrossSegments() throws Exception {
+    router.route("/a/*").handler(rc -> {
+      rc.put("trace", "a");
+      rc.next();
+    });
+    router.route().handler(rc -> {
+      rc.put("trace", rc.get("trace", "") + "any");
+      rc.next();
+    });
+    router.get("/a/:id").handler(rc -> {
+      rc.put("trace", rc.get("trace") + "|" + rc.pathParam("id"));
+      rc.next();
+    });
+    router.routeWithRegex("/a/.*").handler(rc -> rc.response().setStatusMessage(rc.get("trace") + "|regex").end());
+    for (int i = 0; i < 100; i++) {
+      router.get("/other" + i + "/:id").handler(rc -> rc.fail(500));
+    }
+
+    testRequest(HttpMethod.GET, "/a/1", 200, "aany|1|regex");
+    testRequest(HttpMethod.GET, "/b", 404, "Not Found");
+  }
+
+  @Test
+  public void testMethodNotAllowed() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      router.get("/path" + i).handler(rc -> rc.response().end());
+    }
+    router.post("/path1/:id").handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/path1", 200, "OK");
+    testRequest(HttpMethod.PUT, "/path1", 405, "Method Not Allowed");
+    testRequest(HttpMethod.PUT, "/path1/x", 405, "Method Not Allowed");
+    testRequest(HttpMethod.PUT, "/path", 404, "Not Found");
+  }
+
+  @Test
+  public void testNotAcceptableAndUnsupportedMediaType() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      router.get("/path" + i).handler(rc -> rc.response().end());
+    }
+    router.get("/json").produces("application/json").handler(rc -> rc.response().end());
+    router.post("/json").consumes("application/json").handler(rc -> rc.response().end());
+
+    testRequestWithAccepts(HttpMethod.GET, "/json", "application/json", 200, "OK");
+    testRequestWithAccepts(HttpMethod.GET, "/json", "text/html", 406, "Not Acceptable");
+    testRequestWithContentType(HttpMethod.POST, "/json", "text/html", 415, "Unsupported Media Type");
+  }
+
+  @Test
+  public void testTrailingSlashAndPrefix() throws Exception {
+    router.get("/exact").handler(rc -> rc.response().setStatusMessage("exact").end());
+    router.get("/prefix*").handler(rc -> rc.response().setStatusMessage("prefix").end());
+    router.get("/dir/*").handler(rc -> rc.response().setStatusMessage("dir").end());
+
+    testRequest(HttpMethod.GET, "/exact", 200, "exact");
+    testRequest(HttpMethod.GET, "/exact/", 200, "exact");
+    testRequest(HttpMethod.GET, "/prefixed", 200, "prefix");
+    testRequest(HttpMethod.GET, "/dir", 200, "dir");
+    testRequest(HttpMethod.GET, "/dir/file", 200, "dir");
+  }
+
+  @Test
+  public void testSubRouter() throws Exception {
+    Router subRouter = Router.router(vertx);
+    subRouter.get("/users/:id").handler(rc -> rc.response().setStatusMessage("user " + rc.pathParam("id")).end());
+    subRouter.get("/").handler(rc -> rc.response().setStatusMessage("root").end());
+    router.route("/api/*").subRouter(subRouter);
+
+    testRequest(HttpMethod.GET, "/api/users/1", 200, "user 1");
+    testRequest(HttpMethod.GET, "/api/", 200, "root");
+    testRequest(HttpMethod.GET, "/api/groups/1", 404, "Not Found");
+  }
+
+  @Test
+  public void testSegmentParams() throws Exception {
+    router.get("/users/:id/orders/:orderId").handler(rc -> rc.response()
+      .setStatusMessage(rc.pathParam("id") + "-" + rc.pathParam("orderId") + "-" + rc.request().getParam("id"))
+      .end());
+    router.get("/dirs/:name/").handler(rc -> rc.response().setStatusMessage("dir " + rc.pathParam("name")).end());
+    router.post("/items/:id").handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/users/1/orders/2", 200, "1-2-1");
+    testRequest(HttpMethod.GET, "/users/1/orders/2/", 200, "1-2-1");
+    testRequest(HttpMethod.GET, "/users/a%20b/orders/2", 200, "a b-2-a b");
+    testRequest(HttpMethod.GET, "/users/1/orders", 404, "Not Found");
+    testRequest(HttpMethod.GET, "/users/1/orders/2/3", 404, "Not Found");
+    testRequest(HttpMethod.GET, "/dirs/x/", 200, "dir x");
+    testRequest(HttpMethod.GET, "/dirs/x", 404, "Not Found");
+    testRequest(HttpMethod.GET, "/items/1", 405, "Method Not Allowed");
+  }
+
+  @Test
+  public void testSegmentParamsInSubRouter() throws Exception {
+    Router subRouter = Router.router(vertx);
+    subRouter.get("/users/:id").handler(rc -> rc.response().setStatusMessage("user " + rc.pathParam("id")).end());
+    router.route("/api/v1/*").subRouter(subRouter);
+
+    testRequest(HttpMethod.GET, "/api/v1/users/7", 200, "user 7");
+    testRequest(HttpMethod.GET, "/api/v1/users/", 404, "Not Found");
+  }
+
+  @Test
+  public void testPathChangeAfterAdd() throws Exception {
+    Route route = router.get("/before").handler(rc -> rc.response().end());
+    testRequest(HttpMethod.GET, "/before", 200, "OK");
+    route.path("/after");
+    testRequest(HttpMethod.GET, "/before", 404, "Not Found");
+    testRequest(HttpMethod.GET, "/after", 200, "OK");
+  }
+}
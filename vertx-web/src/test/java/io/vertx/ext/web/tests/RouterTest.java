@@ -28,6 +28,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -1316,6 +1317,38 @@ public class RouterTest extends WebTestBase {
     testRequestWithAccepts(HttpMethod.GET, "/foo", "application/blah", 406, "Not Acceptable");
   }
 
+  @Test
+  public void testProducesRepeatedNegotiation() throws Exception {
+    router.route()
+      .produces("text/html")
+      .produces("application/json")
+      .handler(rc -> rc.response().end(rc.getAcceptableContentType()));
+    for (int i = 0; i < 3; i++) {
+      testRequest(webClient.get("/foo").putHeader("Accept", "application/*"), 200, "OK", "application/json");
+      testRequest(webClient.get("/foo").putHeader("Accept", "text/html;q=0.5, application/json"), 200, "OK", "application/json");
+      testRequestWithAccepts(HttpMethod.GET, "/foo", "text/json", 406, "Not Acceptable");
+    }
+  }
+
+  @Test
+  public void testProducesAcceptWithoutMediaType() throws Exception {
+    router.route().produces("text/html").handler(rc -> rc.response().end(String.valueOf(rc.getAcceptableContentType())));
+    for (int i = 0; i < 3; i++) {
+      // nothing to negotiate
+      testRequest(webClient.get("/foo").putHeader("Accept", ","), 200, "OK", "null");
+    }
+  }
+
+  @Test
+  public void testConsumesRepeatedNegotiation() throws Exception {
+    router.route().consumes("text/html").handler(rc -> rc.response().end());
+    for (int i = 0; i < 3; i++) {
+      testRequestWithContentType(HttpMethod.GET, "/foo", "text/html", 200, "OK");
+      testRequestWithContentType(HttpMethod.GET, "/foo", "text/json", 415, "Unsupported Media Type");
+      testRequest(HttpMethod.GET, "/foo", HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+  }
+
   @Test
   public void testProducesWithQParameterIgnored() throws Exception {
     router.route().produces("text/html;q").produces("text/html;q=0.1").handler(rc -> rc.response().end());
@@ -2260,6 +2293,27 @@ public class RouterTest extends WebTestBase {
     testRequest(HttpMethod.GET, "/foo", 200, "OK");
   }
 
+  @Test
+  public void testParsedHeadersSharedBetweenRequests() throws Exception {
+    List<List<MIMEHeader>> accepts = Collections.synchronizedList(new ArrayList<>());
+    router.route().handler(rc -> {
+      accepts.add(rc.parsedHeaders().accept());
+      rc.response().end();
+    });
+
+    String accept = "text/html;q=0.8, application/json";
+    testRequest(webClient.get("/foo").putHeader("Accept", accept), 200, "OK");
+    testRequest(webClient.get("/foo").putHeader("Accept", accept), 200, "OK");
+    testRequest(webClient.get("/foo").putHeader("Accept", "text/plain"), 200, "OK");
+
+    assertEquals(3, accepts.size());
+    assertSame(accepts.get(0), accepts.get(1));
+    assertEquals("application/json", accepts.get(0).get(0).value());
+    assertEquals("text/html", accepts.get(0).get(1).value());
+    assertNotSame(accepts.get(0), accepts.get(2));
+    assertEquals("text/plain", accepts.get(2).get(0).value());
+  }
+
   @Test
   public void testUnderscoreOnRoutePath() throws Exception {
     router.route("/:account_id").handler(rc -> {
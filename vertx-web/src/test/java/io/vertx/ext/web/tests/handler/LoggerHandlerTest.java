@@ -17,12 +17,19 @@
 package io.vertx.ext.web.tests.handler;
 
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.handler.LoggerFormat;
 import io.vertx.ext.web.handler.LoggerHandler;
+import io.vertx.ext.web.handler.impl.LoggerHandlerImpl;
 import io.vertx.ext.web.tests.WebTestBase;
 import io.vertx.junit5.Checkpoint;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  *
  * Kind of hard to test this!
@@ -73,11 +80,81 @@ public class LoggerHandlerTest extends WebTestBase {
     testLogger(logger);
   }
 
+  @Test
+  public void testLoggerDefaultMessage() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    testLogger(new CapturingLoggerHandler(LoggerFormat.DEFAULT, messages));
+    assertWaitUntil(() -> messages.size() == 1);
+    assertTrue(messages.get(0).matches("\\S+ - - \\[.+ GMT] \"GET /somedir HTTP/1\\.1\" 200 0 \"-\" \"-\""), messages.get(0));
+  }
+
+  @Test
+  public void testLoggerJson() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    router.route().handler(new CapturingLoggerHandler(LoggerFormat.JSON, messages));
+    router.route().handler(rc -> rc.response().end("hello"));
+    testRequest(webClient.get("/somedir").putHeader("user-agent", "\"quoted\"\tagent"), 200, "OK", "hello");
+    assertWaitUntil(() -> messages.size() == 1);
+    JsonObject json = new JsonObject(messages.get(0));
+    assertTrue(json.getString("@timestamp").matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z"), json.getString("@timestamp"));
+    assertNotNull(json.getString("client.address"));
+    assertEquals("GET", json.getString("http.request.method"));
+    assertEquals("/somedir", json.getString("url.original"));
+    assertEquals("HTTP/1.1", json.getString("http.version"));
+    assertEquals(200, json.getInteger("http.response.status_code"));
+    assertEquals(5, json.getInteger("http.response.body.bytes"));
+    assertEquals("\"quoted\"\tagent", json.getString("user_agent.original"));
+    assertFalse(json.containsKey("http.request.referrer"));
+    assertFalse(json.containsKey("user.name"));
+    assertNotNull(json.getLong("event.duration"));
+  }
+
+  @Test
+  public void testLoggerAsync() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    List<String> threads = new CopyOnWriteArrayList<>();
+    LoggerHandler logger = new CapturingLoggerHandler(LoggerFormat.TINY, messages) {
+      @Override
+      protected void doLog(int status, String message) {
+        threads.add(Thread.currentThread().getName());
+        super.doLog(status, message);
+      }
+    }.asyncLogging(16);
+    router.route().handler(logger);
+    router.route().handler(rc -> rc.response().end());
+    for (int i = 0; i < 4; i++) {
+      testRequest(HttpMethod.GET, "/somedir", 200, "OK");
+    }
+    assertWaitUntil(() -> messages.size() == 4);
+    for (String thread : threads) {
+      assertTrue(thread.startsWith("vert.x-worker-thread"), thread);
+    }
+    assertEquals(0, logger.droppedMessages());
+  }
+
+  @Test
+  public void testLoggerAsyncInvalidQueueSize() {
+    assertThrows(IllegalArgumentException.class, () -> LoggerHandler.create().asyncLogging(-1));
+  }
+
   private void testLogger(LoggerHandler logger) throws Exception {
     router.route().handler(logger);
     router.route().handler(rc -> rc.response().end());
     testRequest(HttpMethod.GET, "/somedir", 200, "OK");
   }
 
+  private static class CapturingLoggerHandler extends LoggerHandlerImpl {
+
+    private final List<String> messages;
 
+    CapturingLoggerHandler(LoggerFormat format, List<String> messages) {
+      super(format);
+      this.messages = messages;
+    }
+
+    @Override
+    protected void doLog(int status, String message) {
+      messages.add(message);
+    }
+  }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025 Red Hat, Inc.
+ *
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *  The Eclipse Public License is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  The Apache License v2.0 is available at
+ *  http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.ext.web.tests.handler;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.ext.web.codec.SseEvent;
+import io.vertx.ext.web.handler.SseBackpressurePolicy;
+import io.vertx.ext.web.handler.SseHandler;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SseHandlerTest extends WebTestBase {
+
+  // more than the socket buffers hold when the client does not read
+  private static final int LARGE_EVENTS = 512;
+  private static final String LARGE_DATA;
+
+  static {
+    char[] data = new char[64 * 1024];
+    Arrays.fill(data, 'x');
+    LARGE_DATA = new String(data);
+  }
+
+  @Test
+  public void testBroadcast() {
+    SseHandler sse = SseHandler.create().setChannelResolver(ctx -> ctx.pathParam("channel"));
+    router.get("/events/:channel").handler(sse);
+
+    List<SseEvent> first = new CopyOnWriteArrayList<>();
+    List<SseEvent> second = new CopyOnWriteArrayList<>();
+    List<SseEvent> other = new CopyOnWriteArrayList<>();
+    subscribe("/events/news", null, first);
+    subscribe("/events/news", null, second);
+    subscribe("/events/other", null, other);
+    assertWaitUntil(() -> sse.subscribers("news") == 2 && sse.subscribers("other") == 1);
+
+    sse.send("news", new SseEvent(null, "update", "line 1\nline 2", 0));
+    sse.send("news", new SseEvent("custom", null, "second", 0));
+    assertWaitUntil(() -> first.size() == 2 && second.size() == 2);
+    for (List<SseEvent> events : List.of(first, second)) {
+      assertEquals("1", events.get(0).id());
+      assertEquals("update", events.get(0).event());
+      assertEquals("line 1\nline 2", events.get(0).data());
+      assertEquals("custom", events.get(1).id());
+      assertEquals("message", events.get(1).event());
+      assertEquals("second", events.get(1).data());
+    }
+    assertTrue(other.isEmpty());
+  }
+
+  @Test
+  public void testReplay() {
+    SseHandler sse = SseHandler.create().setReplaySize(2);
+    router.get("/events").handler(sse);
+
+    // the events sent to a channel without subscribers are dropped
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent("dropped", null, "dropped", 0));
+    List<SseEvent> first = new CopyOnWriteArrayList<>();
+    subscribe("/events", null, first);
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    for (int i = 1; i <= 3; i++) {
+      sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "event " + i, 0));
+    }
+    // the events after the last one received
+    List<SseEvent> resumed = new CopyOnWriteArrayList<>();
+    subscribe("/events", "2", resumed);
+    // the last event received is no longer retained
+    List<SseEvent> late = new CopyOnWriteArrayList<>();
+    subscribe("/events", "0", late);
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 3);
+
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "event 4", 0));
+    assertWaitUntil(() -> resumed.size() == 2 && late.size() == 3);
+    assertEquals("event 3", resumed.get(0).data());
+    assertEquals("event 4", resumed.get(1).data());
+    assertEquals("event 2", late.get(0).data());
+    assertEquals("4", late.get(2).id());
+    assertWaitUntil(() -> first.size() == 4);
+    assertEquals("1", first.get(0).id());
+  }
+
+  @Test
+  public void testClose() {
+    SseHandler sse = SseHandler.create();
+    router.get("/events").handler(sse);
+
+    List<SseEvent> events = new CopyOnWriteArrayList<>();
+    Future<HttpResponse<Void>> response = subscribe("/events", null, events);
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "bye", 0));
+    sse.close(SseHandler.DEFAULT_CHANNEL);
+    assertEquals(200, response.await().statusCode());
+    assertEquals("text/event-stream", response.await().getHeader("content-type"));
+    assertEquals(1, events.size());
+    assertEquals(0, sse.subscribers(SseHandler.DEFAULT_CHANNEL));
+  }
+
+  @Test
+  public void testBackpressureDrop() {
+    SseHandler sse = SseHandler.create().setBackpressurePolicy(SseBackpressurePolicy.DROP).setReplaySize(0);
+    router.get("/events").handler(sse);
+
+    Buffer received = Buffer.buffer();
+    HttpClientResponse response = connect(null, received, true).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    for (int i = 0; i < LARGE_EVENTS; i++) {
+      sse.send(SseHandler.DEFAULT_CHANNEL, largeEvent());
+    }
+    // the events are dropped, the connection is kept
+    assertEquals(1, sse.subscribers(SseHandler.DEFAULT_CHANNEL));
+    response.resume();
+    // the last event may be dropped until the connection is drained
+    assertWaitUntil(() -> {
+      sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "end", 0));
+      return endsWith(received, "data: end\n\n");
+    });
+    assertTrue(largeEvents(received) < LARGE_EVENTS);
+    assertEquals(1, sse.subscribers(SseHandler.DEFAULT_CHANNEL));
+  }
+
+  @Test
+  public void testBackpressureBuffer() {
+    SseHandler sse = SseHandler.create().setMaxBufferedEvents(LARGE_EVENTS).setReplaySize(0);
+    router.get("/events").handler(sse);
+
+    Buffer received = Buffer.buffer();
+    HttpClientResponse response = connect(null, received, true).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    for (int i = 0; i < LARGE_EVENTS; i++) {
+      sse.send(SseHandler.DEFAULT_CHANNEL, largeEvent());
+    }
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "end", 0));
+    assertEquals(1, sse.subscribers(SseHandler.DEFAULT_CHANNEL));
+    // the buffered events are written in order once the connection drains
+    response.resume();
+    assertWaitUntil(() -> endsWith(received, "data: end\n\n"));
+    assertEquals(LARGE_EVENTS, largeEvents(received));
+  }
+
+  @Test
+  public void testBackpressureBufferOverflow() {
+    SseHandler sse = SseHandler.create().setMaxBufferedEvents(4).setReplaySize(0);
+    router.get("/events").handler(sse);
+
+    connect(null, Buffer.buffer(), true).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    // the connection is closed once more events than the limit are buffered
+    assertWaitUntil(() -> {
+      for (int i = 0; i < 16; i++) {
+        sse.send(SseHandler.DEFAULT_CHANNEL, largeEvent());
+      }
+      return sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 0;
+    });
+  }
+
+  @Test
+  public void testBackpressureDisconnect() {
+    SseHandler sse = SseHandler.create().setBackpressurePolicy(SseBackpressurePolicy.DISCONNECT).setReplaySize(0);
+    router.get("/events").handler(sse);
+
+    connect(null, Buffer.buffer(), true).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    // the connection is closed as soon as its write queue is full
+    assertWaitUntil(() -> {
+      for (int i = 0; i < 16; i++) {
+        sse.send(SseHandler.DEFAULT_CHANNEL, largeEvent());
+      }
+      return sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 0;
+    });
+  }
+
+  @Test
+  public void testEmptyChannelTimeout() throws Exception {
+    SseHandler sse = SseHandler.create().setReplaySize(4).setEmptyChannelTimeout(200);
+    router.get("/events").handler(sse);
+
+    Buffer first = Buffer.buffer();
+    HttpClientResponse response = connect(null, first, false).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "retained", 0));
+    assertWaitUntil(() -> endsWith(first, "data: retained\n\n"));
+    response.request().connection().close().await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 0);
+
+    // the empty channel keeps its events for the clients reconnecting
+    Buffer reconnected = Buffer.buffer();
+    response = connect("0", reconnected, false).await();
+    assertWaitUntil(() -> endsWith(reconnected, "data: retained\n\n"));
+    response.request().connection().close().await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 0);
+
+    // then it is removed with its events
+    Thread.sleep(1000);
+    Buffer late = Buffer.buffer();
+    connect("0", late, false).await();
+    assertWaitUntil(() -> sse.subscribers(SseHandler.DEFAULT_CHANNEL) == 1);
+    sse.send(SseHandler.DEFAULT_CHANNEL, new SseEvent(null, null, "new", 0));
+    assertWaitUntil(() -> endsWith(late, "data: new\n\n"));
+    synchronized (late) {
+      assertFalse(late.toString().contains("retained"));
+    }
+  }
+
+  private static SseEvent largeEvent() {
+    return new SseEvent(null, null, LARGE_DATA, 0);
+  }
+
+  private static int largeEvents(Buffer received) {
+    final String s;
+    synchronized (received) {
+      s = received.toString();
+    }
+    int count = 0;
+    for (int idx = s.indexOf(LARGE_DATA); idx != -1; idx = s.indexOf(LARGE_DATA, idx + LARGE_DATA.length())) {
+      count++;
+    }
+    return count;
+  }
+
+  private static boolean endsWith(Buffer received, String suffix) {
+    synchronized (received) {
+      return received.length() >= suffix.length() && received.getString(received.length() - suffix.length(), received.length()).equals(suffix);
+    }
+  }
+
+  /**
+   * Connect with the HTTP client, which can stop reading the stream unlike the SSE body codec.
+   */
+  private Future<HttpClientResponse> connect(String lastEventId, Buffer received, boolean paused) {
+    RequestOptions options = new RequestOptions().setURI("/events");
+    if (lastEventId != null) {
+      options.putHeader("Last-Event-ID", lastEventId);
+    }
+    return client.request(options)
+      .compose(request -> request.send())
+      .map(response -> {
+        if (paused) {
+          response.pause();
+        }
+        response.handler(chunk -> {
+          synchronized (received) {
+            received.appendBuffer(chunk);
+          }
+        });
+        return response;
+      });
+  }
+
+  private Future<HttpResponse<Void>> subscribe(String uri, String lastEventId, List<SseEvent> events) {
+    HttpRequest<Buffer> request = webClient.get(uri);
+    if (lastEventId != null) {
+      request.putHeader("Last-Event-ID", lastEventId);
+    }
+    return request.as(BodyCodec.sseStream(stream -> stream.handler(events::add))).send();
+  }
+}
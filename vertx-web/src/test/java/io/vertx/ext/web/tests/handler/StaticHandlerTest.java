@@ -23,6 +23,7 @@ import io.vertx.core.http.*;
 
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.core.spi.file.FileResolver;
@@ -44,6 +45,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -51,11 +54,14 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import java.util.function.BiFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
 
@@ -401,6 +407,157 @@ public class StaticHandlerTest extends WebTestBase {
     assertEquals(expectedContentEncodings, actualEncodings);
   }
 
+  @Test
+  public void testServePrecompressed() throws Exception {
+    String content = "<html><body>Other page</body></html>";
+    Files.write(webRootTarget.resolve("otherpage.html.gz"), gzip(content.getBytes(StandardCharsets.UTF_8)));
+    stat.setServePrecompressed(true);
+
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/otherpage.html").putHeader("accept-encoding", "br;q=0, gzip").send(), 200, "OK");
+    assertEquals("gzip", resp.getHeader("content-encoding"));
+    assertEquals("accept-encoding", resp.getHeader("vary"));
+    assertTrue(resp.getHeader("content-type").startsWith("text/html"));
+    assertEquals(content, gunzip(resp.body()));
+    // the sibling is only sent when the client accepts its encoding
+    resp = testRequest(webClient.get("/otherpage.html").putHeader("accept-encoding", "br").send(), 200, "OK");
+    assertNull(resp.getHeader("content-encoding"));
+    assertEquals(content, resp.bodyAsString());
+  }
+
+  @Test
+  public void testCompressedFileCache() throws Exception {
+    StringBuilder content = new StringBuilder("<html><body>");
+    for (int i = 0; i < 256; i++) {
+      content.append("<p>Paragraph ").append(i).append("</p>");
+    }
+    content.append("</body></html>");
+    Files.write(webRootTarget.resolve("large.html"), content.toString().getBytes(StandardCharsets.UTF_8));
+    Path cacheDir = Files.createTempDirectory("compressed");
+    stat.setCompressedFileCache(cacheDir.toString(), 1024 * 1024);
+
+    for (int i = 0; i < 2; i++) {
+      HttpResponse<Buffer> resp = testRequest(webClient.get("/large.html").putHeader("accept-encoding", "gzip").send(), 200, "OK");
+      assertEquals("gzip", resp.getHeader("content-encoding"));
+      assertEquals(content.toString(), gunzip(resp.body()));
+    }
+    // compressed once
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+      int count = 0;
+      for (Path file : files) {
+        count++;
+        Files.delete(file);
+      }
+      assertEquals(1, count);
+    }
+    Files.delete(cacheDir);
+    // small files are sent as is
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/otherpage.html").putHeader("accept-encoding", "gzip").send(), 200, "OK");
+    assertNull(resp.getHeader("content-encoding"));
+  }
+
+  @Test
+  public void testMemoryCache() throws Exception {
+    useAbsoluteWebRoot();
+    stat.setMemoryCache(16 * 1024, 1024 * 1024).setFilesReadOnly(false).setCacheEntryTimeout(1);
+
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/otherpage.html").send(), 200, "OK", "<html><body>Other page</body></html>");
+    // the same validators as from the file system
+    assertNull(resp.getHeader("etag"));
+    String lastModified = resp.getHeader("last-modified");
+    assertNotNull(lastModified);
+    assertEquals("36", resp.getHeader("content-length"));
+    assertTrue(resp.getHeader("content-type").startsWith("text/html"));
+    resp = testRequest(webClient.get("/otherpage.html").send(), 200, "OK", "<html><body>Other page</body></html>");
+    assertEquals(lastModified, resp.getHeader("last-modified"));
+    testRequest(webClient.get("/otherpage.html").putHeader("if-modified-since", lastModified).send(), 304, "Not Modified");
+    // a modified file is loaded again
+    Path file = webRootTarget.resolve("otherpage.html");
+    Files.write(file, "<html><body>Modified page</body></html>".getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    Thread.sleep(10);
+    resp = testRequest(webClient.get("/otherpage.html").send(), 200, "OK", "<html><body>Modified page</body></html>");
+    assertNotEquals(lastModified, resp.getHeader("last-modified"));
+  }
+
+  @Test
+  public void testMemoryCacheContentHashETags() throws Exception {
+    stat.setMemoryCache(16 * 1024, 1024 * 1024).setContentHashETags(true).setEnableRangeSupport(true);
+    assertWaitUntil(() -> webClient.get("/otherpage.html").send().await().getHeader("etag") != null);
+    String etag = testRequest(webClient.get("/otherpage.html").send(), 200, "OK", "<html><body>Other page</body></html>").getHeader("etag");
+    // a range request is sent from the file system
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/otherpage.html").putHeader("range", "bytes=0-5").send(), 206, "Partial Content");
+    assertEquals(etag, resp.getHeader("etag"));
+  }
+
+  @Test
+  public void testWatchFileSystem() throws Exception {
+    useAbsoluteWebRoot();
+    stat.setFilesReadOnly(false).setCacheEntryTimeout(Long.MAX_VALUE / 2).setWatchFileSystem(true);
+    try {
+      testRequest(HttpMethod.GET, "/otherpage.html", 200, "OK", "<html><body>Other page</body></html>");
+      testRequest(HttpMethod.GET, "/newpage.html", 404, "Not Found");
+      Files.write(webRootTarget.resolve("newpage.html"), "<html><body>New page</body></html>".getBytes(StandardCharsets.UTF_8));
+      Files.write(webRootTarget.resolve("otherpage.html"), "<html><body>Modified page</body></html>".getBytes(StandardCharsets.UTF_8));
+      // the entries do not expire, the watcher invalidates them
+      assertWaitUntil(() -> webClient.get("/newpage.html").send().await().statusCode() == 200);
+      assertWaitUntil(() -> "<html><body>Modified page</body></html>".equals(webClient.get("/otherpage.html").send().await().bodyAsString()));
+    } finally {
+      stat.setWatchFileSystem(false);
+    }
+  }
+
+  @Test
+  public void testContentHashETags() throws Exception {
+    Path manifest = Files.createTempFile("etags", ".json");
+    Files.delete(manifest);
+    stat.setContentHashETags(true).setETagManifest(manifest.toString()).setImmutableFilePattern(".*\\.[0-9a-f]{8}\\.js");
+    try {
+      // the hash is computed after the first request
+      assertWaitUntil(() -> webClient.get("/otherpage.html").send().await().getHeader("etag") != null);
+      HttpResponse<Buffer> resp = testRequest(webClient.get("/otherpage.html").send(), 200, "OK", "<html><body>Other page</body></html>");
+      String etag = resp.getHeader("etag");
+      assertTrue(etag.startsWith("\"") && !etag.startsWith("\"W/"));
+      resp = testRequest(webClient.get("/otherpage.html").putHeader("if-none-match", etag).send(), 304, "Not Modified");
+      assertEquals(etag, resp.getHeader("etag"));
+      testRequest(webClient.get("/otherpage.html").putHeader("if-none-match", "\"other\"").send(), 200, "OK", "<html><body>Other page</body></html>");
+      // only the encodings the handler sends match
+      String encoded = etag.substring(0, etag.length() - 1) + "-gzip\"";
+      resp = testRequest(webClient.get("/otherpage.html").putHeader("if-none-match", encoded).send(), 200, "OK", "<html><body>Other page</body></html>");
+      assertEquals(etag, resp.getHeader("etag"));
+      assertWaitUntil(() -> Files.exists(manifest));
+      assertEquals(etag, new JsonObject(Buffer.buffer(Files.readAllBytes(manifest))).getJsonObject(webRootTarget.getFileName() + "/otherpage.html").getString("etag"));
+      // fingerprinted files
+      Files.write(webRootTarget.resolve("app.0123abcd.js"), "var app;".getBytes(StandardCharsets.UTF_8));
+      resp = testRequest(webClient.get("/app.0123abcd.js").send(), 200, "OK", "var app;");
+      assertEquals("public, max-age=31536000, immutable", resp.getHeader("cache-control"));
+      resp = testRequest(webClient.get("/otherpage.html").send(), 200, "OK");
+      assertFalse(resp.getHeader("cache-control").contains("31536000"));
+    } finally {
+      Files.deleteIfExists(manifest);
+    }
+  }
+
+  private void useAbsoluteWebRoot() {
+    // files modified by a test must not be served from the vert.x classpath file cache
+    router.clear();
+    stat = StaticHandler.create(FileSystemAccess.ROOT, webRootTarget.toAbsolutePath().toString());
+    router.route().handler(stat);
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(data);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static String gunzip(Buffer data) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data.getBytes()))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
   @Test
   public void testHead() throws Exception {
     HttpResponse<Buffer> resp = testRequest(webClient.head("/otherpage.html").send(), 200, "OK");
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -77,4 +78,31 @@ public class TimeoutHandlerTest extends WebTestBase {
     router.errorHandler(TimeoutHandler.DEFAULT_ERRORCODE, rc -> fail());
     testRequest(HttpMethod.GET, "/a", 200, "OK");
   }
+
+  @Test
+  public void testTimeoutCount() throws Exception {
+    TimeoutHandler handler = TimeoutHandler.create(200, TimeoutHandler.DEFAULT_ERRORCODE, 20);
+    router.route().handler(handler);
+    router.get("/slow").handler(rc -> {
+      // Don't end it
+    });
+    router.get("/fast").handler(RoutingContext::end);
+    testRequest(HttpMethod.GET, "/fast", 200, "OK");
+    testRequest(HttpMethod.GET, "/slow", 503, "Service Unavailable");
+    testRequest(HttpMethod.GET, "/slow", 503, "Service Unavailable");
+    // the cancelled timeout does not fire
+    Thread.sleep(300);
+    assertEquals(2, handler.timeoutCount());
+  }
+
+  @Test
+  public void testTimeoutWithTimerPerRequest() throws Exception {
+    TimeoutHandler handler = TimeoutHandler.create(200, TimeoutHandler.DEFAULT_ERRORCODE, 0);
+    router.route().handler(handler);
+    router.route().handler(rc -> {
+      // Don't end it
+    });
+    testRequest(HttpMethod.GET, "/", 503, "Service Unavailable");
+    assertEquals(1, handler.timeoutCount());
+  }
 }
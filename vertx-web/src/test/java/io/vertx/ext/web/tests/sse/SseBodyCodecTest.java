@@ -407,4 +407,29 @@ public class SseBodyCodecTest {
     assertEquals(1, events.size());
     assertEquals("This is\na multiline\nmessage", events.get(0).data());
   }
+
+  @Test
+  public void testEventsSplitAcrossWrites() throws Exception {
+    List<SseEvent> events = new ArrayList<>();
+
+    BodyCodec<Void> codec = BodyCodec.sseStream(stream -> {
+      stream.handler(events::add);
+    });
+
+    BodyStream<Void> stream = codec.stream();
+
+    String data = "event: first\r\ndata: caf\u00e9\r\ndata: two\r\n\r\nid: 2\r\ndata: second\r\n\r\n";
+    byte[] bytes = data.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    // one byte at a time, splitting the CR LF line endings and the multi-byte characters
+    for (byte b : bytes) {
+      stream.write(Buffer.buffer(new byte[]{b})).await();
+    }
+    assertEquals(2, events.size());
+    assertEquals("first", events.get(0).event());
+    assertEquals("caf\u00e9\ntwo", events.get(0).data());
+    assertNull(events.get(0).id());
+    assertEquals("message", events.get(1).event());
+    assertEquals("second", events.get(1).data());
+    assertEquals("2", events.get(1).id());
+  }
 }
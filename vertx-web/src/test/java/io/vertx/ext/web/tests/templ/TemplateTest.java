@@ -17,12 +17,15 @@
 package io.vertx.ext.web.tests.templ;
 
 import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.common.template.OffloadingTemplateEngine;
 import io.vertx.ext.web.common.template.TemplateEngine;
 import io.vertx.ext.web.handler.TemplateHandler;
 import io.vertx.ext.web.tests.WebTestBase;
@@ -32,8 +35,15 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -165,6 +175,114 @@ public class TemplateTest extends WebTestBase {
     assertEquals(Buffer.buffer(expected), normalizeLineEndingsFor(resp.body()));
   }
 
+  @Test
+  public void testRenderCache() {
+    AtomicInteger renders = new AtomicInteger();
+    TemplateEngine engine = new TestEngine(false) {
+      @Override
+      public Future<Buffer> render(Map<String, Object> context, String templateFileName) {
+        renders.incrementAndGet();
+        return super.render(context, templateFileName);
+      }
+    };
+    router.route().handler(context -> {
+      context.put("foo", context.request().getParam("foo", "badger"));
+      context.put("bar", "fox");
+      context.next();
+    });
+    router.route().handler(TemplateHandler.create(engine, "somedir", "text/html")
+      .setRenderCache(ctx -> ctx.request().getParam("foo"), 60, 16));
+
+    HttpResponse<Buffer> resp1 = testRequest(webClient.get("/test-template.html?foo=badger").send(), 200, "OK");
+    String etag = resp1.getHeader("etag");
+    assertNotNull(etag);
+    HttpResponse<Buffer> resp2 = testRequest(webClient.get("/test-template.html?foo=badger").send(), 200, "OK");
+    assertEquals(etag, resp2.getHeader("etag"));
+    assertEquals(resp1.body(), resp2.body());
+    assertEquals(1, renders.get());
+    // the client already has the output
+    testRequest(webClient.get("/test-template.html?foo=badger").putHeader("If-None-Match", etag).send(), 304, "Not Modified");
+    assertEquals(1, renders.get());
+    // another key is rendered again
+    HttpResponse<Buffer> resp3 = testRequest(webClient.get("/test-template.html?foo=weasel").send(), 200, "OK");
+    assertNotEquals(etag, resp3.getHeader("etag"));
+    assertTrue(resp3.bodyAsString().contains("foo is weasel"));
+    assertEquals(2, renders.get());
+    // a null key is not cached
+    testRequest(webClient.get("/test-template.html").send(), 200, "OK");
+    testRequest(webClient.get("/test-template.html").send(), 200, "OK");
+    assertEquals(4, renders.get());
+  }
+
+  @Test
+  public void testStreamingRender() {
+    TemplateEngine engine = new TestEngine(false) {
+      @Override
+      public Future<Void> render(Map<String, Object> context, String templateFileName, WriteStream<Buffer> stream) {
+        stream.write(Buffer.buffer("<html>"));
+        stream.write(Buffer.buffer("<body>"));
+        return stream.write(Buffer.buffer("</body></html>"));
+      }
+    };
+    router.route("/stream/*").handler(TemplateHandler.create(engine, "somedir", "text/html"));
+    router.route().handler(TemplateHandler.create(new TestEngine(false), "somedir", "text/html"));
+
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/stream/test-template.html").send(), 200, "OK");
+    assertEquals("<html><body></body></html>", resp.bodyAsString());
+    assertEquals("chunked", resp.getHeader("transfer-encoding"));
+    assertEquals("text/html", resp.getHeader("content-type"));
+    // an output rendered at once is not chunked
+    resp = testRequest(webClient.get("/test-template.html").send(), 200, "OK");
+    assertNull(resp.getHeader("transfer-encoding"));
+    assertEquals(String.valueOf(resp.body().length()), resp.getHeader("content-length"));
+  }
+
+  @Test
+  public void testOffloadedRender() {
+    AtomicReference<String> renderThread = new AtomicReference<>();
+    TemplateEngine delegate = new TestEngine(false) {
+      @Override
+      public Future<Buffer> render(Map<String, Object> context, String templateFileName) {
+        renderThread.set(Thread.currentThread().getName());
+        return super.render(context, templateFileName);
+      }
+    };
+    OffloadingTemplateEngine engine = OffloadingTemplateEngine.create(vertx, delegate, 2);
+    router.route().handler(context -> {
+      context.put("foo", "badger");
+      context.put("bar", "fox");
+      context.next();
+    });
+    router.route().handler(TemplateHandler.create(engine, "somedir", "text/html"));
+
+    HttpResponse<Buffer> resp = testRequest(webClient.get("/test-template.html").send(), 200, "OK");
+    assertTrue(resp.bodyAsString().contains("foo is badger bar is fox"));
+    assertTrue(renderThread.get().startsWith(OffloadingTemplateEngine.DEFAULT_WORKER_POOL_NAME));
+    assertEquals(1, engine.renderCount());
+    assertEquals(0, engine.pendingRenders());
+    assertEquals(0, engine.activeRenders());
+    assertTrue(engine.maxRenderTime() > 0);
+  }
+
+  @Test
+  public void testOffloadingTemplateEngineRejected() {
+    WorkerExecutor executor = vertx.createSharedWorkerExecutor("closed-render-pool", 1);
+    executor.close().await();
+    OffloadingTemplateEngine engine = OffloadingTemplateEngine.create(vertx, new TestEngine(false), executor);
+    router.route().handler(TemplateHandler.create(engine, "somedir", "text/html"));
+
+    // the rejected render fails the request instead of leaving it pending
+    testRequest(webClient.get("/test-template.html").send(), 500, "Internal Server Error");
+    assertEquals(0, engine.pendingRenders());
+  }
+
+  @Test
+  public void testOffloadingTemplateEngineClose() {
+    OffloadingTemplateEngine engine = OffloadingTemplateEngine.create(vertx, new TestEngine(false), 1);
+    engine.close().await();
+    assertThrows(Exception.class, () -> engine.render(Map.of(), "somedir/test-template.html").await());
+  }
+
   // Just for testing - not for actual use
   class TestEngine implements TemplateEngine {
 